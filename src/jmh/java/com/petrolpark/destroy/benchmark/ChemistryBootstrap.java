@@ -0,0 +1,51 @@
+package com.petrolpark.destroy.benchmark;
+
+import com.petrolpark.destroy.chemistry.Molecule;
+import com.petrolpark.destroy.chemistry.index.DestroyGenericReactions;
+import com.petrolpark.destroy.chemistry.index.DestroyGroupFinder;
+import com.petrolpark.destroy.chemistry.index.DestroyMolecules;
+import com.petrolpark.destroy.chemistry.index.DestroyReactions;
+import com.petrolpark.destroy.chemistry.index.DestroyTopologies;
+import com.petrolpark.destroy.config.DestroyAllConfigs;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+
+/**
+ * Sets up just enough of Minecraft and Destroy to use the chemistry engine without starting the game.
+ */
+public class ChemistryBootstrap {
+
+    private static boolean bootstrapped = false;
+
+    /**
+     * Register everything the chemistry engine needs, in the same order as {@link com.petrolpark.destroy.Destroy Destroy} itself does.
+     * This only does anything the first time it is called.
+     */
+    public static synchronized void bootstrap() {
+        if (bootstrapped) return;
+
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap(); // Reactions refer to vanilla Items
+
+        DestroyAllConfigs.createInMemory();
+
+        DestroyGroupFinder.register();
+        DestroyTopologies.register();
+        DestroyMolecules.register();
+        DestroyReactions.register();
+        DestroyGenericReactions.register();
+
+        bootstrapped = true;
+    };
+
+    /**
+     * Get a known or novel {@link Molecule}, throwing an error rather than returning {@code null} if it doesn't exist.
+     * @param id ID or full FROWNS code
+     */
+    public static Molecule molecule(String id) {
+        Molecule molecule = Molecule.getMolecule(id);
+        if (molecule == null) throw new IllegalArgumentException("Unknown Molecule '" + id + "'");
+        return molecule;
+    };
+};
@@ -0,0 +1,87 @@
+package com.petrolpark.destroy.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.petrolpark.destroy.chemistry.Formula;
+import com.petrolpark.destroy.chemistry.Molecule;
+
+/**
+ * Benchmarks for reading and writing <a href="https://github.com/petrolpark/Destroy/wiki/FROWNS">FROWNS</a> codes, and for finding
+ * {@link Molecule#getEquivalent known equivalents} of novel {@link Molecule Molecules}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormulaBenchmark {
+
+    /**
+     * FROWNS codes of increasing size. The last is a branched alkane of 32 carbons, which has 98 Atoms once it has its hydrogens.
+     */
+    @Param({"destroy:linear:CCO", "destroy:linear:CC(C)(C#N)N=NC(C)(C#N)C", "destroy:benzene:C(=O)OH,C,,,,", "destroy:linear:CC(C)CC(CC(C)C)CCC(C(C)C)CC(CCC(C)C)CCCC(CC)CCC(C)"})
+    public String FROWNSCode;
+
+    private Formula formula;
+    private Molecule novelMolecule;
+
+    /**
+     * More distinct FROWNS codes than {@link Formula#deserialize} remembers, so reading them in turn never hits its cache.
+     */
+    private List<String> uncachedFROWNSCodes;
+    private int nextUncachedFROWNSCode;
+
+    @Setup
+    public void setUp() {
+        ChemistryBootstrap.bootstrap();
+        formula = Formula.deserialize(FROWNSCode);
+        novelMolecule = ChemistryBootstrap.molecule(FROWNSCode);
+
+        uncachedFROWNSCodes = new ArrayList<>();
+        for (int length = 2; uncachedFROWNSCodes.size() < 4096; length++) {
+            for (int position = 0; position < length; position++) { // Chains with one alcohol group in every position
+                uncachedFROWNSCodes.add("destroy:linear:" + "C".repeat(position) + "C(O)" + "C".repeat(length - position - 1));
+            };
+        };
+        nextUncachedFROWNSCode = 0;
+    };
+
+    /**
+     * Serializing a copy, as Formulae remember their FROWNS codes once they have been worked out.
+     */
+    @Benchmark
+    public String serialize() {
+        return formula.shallowCopy().serialize();
+    };
+
+    @Benchmark
+    public Formula deserialize() {
+        return Formula.deserialize(FROWNSCode);
+    };
+
+    @Benchmark
+    public Formula deserializeUncached() {
+        nextUncachedFROWNSCode = (nextUncachedFROWNSCode + 1) % uncachedFROWNSCodes.size();
+        return Formula.deserialize(uncachedFROWNSCodes.get(nextUncachedFROWNSCode));
+    };
+
+    @Benchmark
+    public Molecule getEquivalent() {
+        return novelMolecule.getEquivalent();
+    };
+};
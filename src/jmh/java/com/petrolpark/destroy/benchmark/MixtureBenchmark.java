@@ -0,0 +1,210 @@
+package com.petrolpark.destroy.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.petrolpark.destroy.chemistry.Mixture;
+import com.petrolpark.destroy.chemistry.Molecule;
+import com.petrolpark.destroy.chemistry.Mixture.ReactionContext;
+import com.petrolpark.destroy.chemistry.ReadOnlyMixture;
+import com.petrolpark.destroy.chemistry.index.DestroyMolecules;
+import com.petrolpark.destroy.recipe.ReactionInBasinRecipe.ReactionInBasinResult;
+
+import net.minecraft.nbt.CompoundTag;
+
+/**
+ * Benchmarks for simulating, mixing and saving {@link Mixture Mixtures}.
+ * <p>Each benchmark is run on a few representative Mixtures: a neutralisation, an acid-catalysed esterification (which relies on Generic Reactions)
+ * and some crude oil fractions (over thirty Molecules, mostly novel, which barely react but have lots of different boiling points).</p>
+ * <p>Most of what is benchmarked changes the Mixture, and Mixtures head towards equilibrium after which there is nothing left to benchmark, so those
+ * benchmarks {@link Mixture#readNBT read} a fresh copy of the Mixture as part of each operation. That copy is benchmarked on its own by
+ * {@link MixtureBenchmark#readNBT}, so take that away to get the cost of the operation itself.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MixtureBenchmark {
+
+    @Param({"acid_base", "esterification", "crude_oil"})
+    public String mixture;
+
+    private Mixture template;
+    private CompoundTag templateTag;
+    private Mixture water;
+    private ReactionContext context;
+
+    /**
+     * Enough energy to boil everything in the {@link MixtureBenchmark#template} and then heat it a lot more.
+     */
+    private float boilingEnergy;
+
+    /**
+     * Another copy of the {@link MixtureBenchmark#template}, to top up the first. This is the smaller Mixture so it is never changed.
+     */
+    private Mixture topUp;
+
+    /**
+     * Whether to simulate with {@link Mixture#reactForTicks adaptive kinetics}. This is its own State so only the benchmarks which react are run both ways.
+     */
+    @State(Scope.Thread)
+    public static class Kinetics {
+
+        @Param({"false", "true"})
+        public boolean adaptive;
+    };
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        ChemistryBootstrap.bootstrap();
+        template = createMixture(mixture);
+        templateTag = template.writeNBT();
+        context = new ReactionContext(List.of(), 0f);
+
+        water = Mixture.pure(DestroyMolecules.WATER);
+        topUp = Mixture.readNBT(templateTag);
+
+        boilingEnergy = template.getVolumetricHeatCapacity() * 600f;
+        for (Molecule molecule : template.getContents(false)) {
+            boilingEnergy += molecule.getLatentHeat() * template.getConcentrationOf(molecule);
+        };
+    };
+
+    public static Mixture createMixture(String name) {
+        Mixture mixture = new Mixture();
+        switch (name) {
+            case "acid_base":
+                mixture.addMolecule(DestroyMolecules.WATER, 50f);
+                mixture.addMolecule(DestroyMolecules.HYDROCHLORIC_ACID, 2f);
+                mixture.addMolecule(DestroyMolecules.SODIUM_ION, 2f);
+                mixture.addMolecule(DestroyMolecules.HYDROXIDE, 2f);
+                break;
+            case "esterification":
+                mixture.addMolecule(DestroyMolecules.ACETIC_ACID, 8f);
+                mixture.addMolecule(DestroyMolecules.METHANOL, 8f);
+                mixture.addMolecule(DestroyMolecules.WATER, 20f);
+                mixture.addMolecule(DestroyMolecules.SULFURIC_ACID, 0.5f);
+                break;
+            case "crude_oil":
+                for (int length = 5; length <= 24; length++) { // Pentane to tetracosane...
+                    mixture.addMolecule(ChemistryBootstrap.molecule("destroy:linear:" + "C".repeat(length)), 0.25f);
+                };
+                for (int length = 3; length <= 8; length++) { // ...some methyl-branched isomers...
+                    mixture.addMolecule(ChemistryBootstrap.molecule("destroy:linear:CC(C)" + "C".repeat(length)), 0.1f);
+                };
+                mixture.addMolecule(DestroyMolecules.BENZENE, 0.4f);
+                mixture.addMolecule(DestroyMolecules.TOLUENE, 0.4f);
+                mixture.addMolecule(DestroyMolecules.ORTHOXYLENE, 0.2f);
+                mixture.addMolecule(DestroyMolecules.METAXYLENE, 0.2f);
+                mixture.addMolecule(DestroyMolecules.PARAXYLENE, 0.2f);
+                mixture.addMolecule(DestroyMolecules.ETHYLBENZENE, 0.2f); // ...and aromatics
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown benchmark Mixture '" + name + "'");
+        };
+        mixture.setTemperature(298f);
+        return mixture;
+    };
+
+    @Benchmark
+    public Mixture reactForTick(Kinetics kinetics) {
+        Mixture copy = Mixture.readNBT(templateTag);
+        if (kinetics.adaptive) {
+            copy.reactForTicks(context, 1);
+        } else {
+            copy.reactForTick(context);
+        };
+        return copy;
+    };
+
+    @Benchmark
+    public Mixture reactForTwentyTicks(Kinetics kinetics) {
+        Mixture copy = Mixture.readNBT(templateTag);
+        if (kinetics.adaptive) {
+            copy.reactForTicks(context, 20); // This stops early if equilibrium is reached
+        } else {
+            for (int i = 0; i < 20; i++) copy.reactForTick(context);
+        };
+        return copy;
+    };
+
+    @Benchmark
+    public ReactionInBasinResult reactInBasin(Kinetics kinetics) {
+        return Mixture.readNBT(templateTag).reactInBasin(1000, List.of(), 0f, 298f, kinetics.adaptive);
+    };
+
+    /**
+     * Heating a Mixture through all its boiling points and cooling it back down again.
+     */
+    @Benchmark
+    public Mixture heatAndCool() {
+        Mixture copy = Mixture.readNBT(templateTag);
+        copy.heat(boilingEnergy);
+        copy.heat(-boilingEnergy);
+        return copy;
+    };
+
+    /**
+     * Mixing in water, which is something new for some of the Mixtures. The water is the smaller Mixture so it is never changed.
+     */
+    @Benchmark
+    public Mixture mix() {
+        Map<Mixture, Double> mixtures = new LinkedHashMap<>();
+        mixtures.put(Mixture.readNBT(templateTag), 0.75d);
+        mixtures.put(water, 0.25d);
+        return Mixture.mixInto(mixtures);
+    };
+
+    /**
+     * Topping up ten Buckets of Mixture with five millibuckets of the same thing, which never adds anything new.
+     */
+    @Benchmark
+    public Mixture topUp() {
+        Map<Mixture, Double> mixtures = new LinkedHashMap<>();
+        mixtures.put(Mixture.readNBT(templateTag), 10d);
+        mixtures.put(topUp, 0.005d);
+        return Mixture.mixInto(mixtures);
+    };
+
+    /**
+     * Building a Mixture from nothing, which includes working out which Reactions are possible as each Molecule is added.
+     */
+    @Benchmark
+    public Mixture addMolecules() {
+        return createMixture(mixture);
+    };
+
+    @Benchmark
+    public CompoundTag writeNBT() {
+        return template.writeNBT();
+    };
+
+    /**
+     * Reading a Mixture, which is also how the benchmarks which change the Mixture get a fresh copy of it.
+     */
+    @Benchmark
+    public Mixture readNBT() {
+        return Mixture.readNBT(templateTag);
+    };
+
+    @Benchmark
+    public ReadOnlyMixture readReadOnlyNBT() {
+        return ReadOnlyMixture.readNBT(templateTag);
+    };
+};
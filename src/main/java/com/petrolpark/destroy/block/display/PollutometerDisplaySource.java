@@ -18,7 +18,7 @@ public class PollutometerDisplaySource extends PercentOrProgressBarDisplaySource
     protected Float getProgress(DisplayLinkContext context) {
         if (!(context.getSourceBlockEntity() instanceof PollutometerBlockEntity pollutometer)) return null;
         PollutionType pollutionType = pollutometer.getPollutionType();
-        return (float)PollutionHelper.getPollution(context.level(), pollutionType) / pollutionType.max;
+        return (float)PollutionHelper.getPollution(context.level(), pollutometer.getBlockPos(), pollutionType) / pollutionType.max;
     };
 
     @Override
@@ -13,6 +13,7 @@ import com.petrolpark.destroy.block.AgingBarrelBlock;
 import com.petrolpark.destroy.block.entity.behaviour.PollutingBehaviour;
 import com.petrolpark.destroy.recipe.AgingRecipe;
 import com.petrolpark.destroy.recipe.DestroyRecipeTypes;
+import com.petrolpark.destroy.recipe.MixtureRecipeIndex;
 import com.petrolpark.destroy.sound.DestroySoundEvents;
 import com.petrolpark.destroy.util.DestroyLang;
 import com.simibubi.create.content.equipment.goggles.IHaveGoggleInformation;
@@ -24,7 +25,6 @@ import com.simibubi.create.foundation.blockEntity.behaviour.fluid.SmartFluidTank
 import com.simibubi.create.foundation.fluid.CombinedTankWrapper;
 import com.simibubi.create.foundation.fluid.SmartFluidTank;
 import com.simibubi.create.foundation.item.SmartInventory;
-import com.simibubi.create.foundation.recipe.RecipeFinder;
 
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.BlockPos;
@@ -93,7 +93,7 @@ public class AgingBarrelBlockEntity extends SmartBlockEntity implements IHaveGog
     @SuppressWarnings("null")
     public void checkRecipe() {
         if (!hasLevel() || getLevel().isClientSide()) return; // It thinks getLevel() might be null (it's not)
-        List<Recipe<?>> allRecipes = RecipeFinder.get(agingRecipeKey, level, r -> r.getType() == DestroyRecipeTypes.AGING.getType());
+        List<Recipe<?>> allRecipes = MixtureRecipeIndex.getCandidates(agingRecipeKey, level, DestroyRecipeTypes.AGING.getType(), getTank().getFluid());
         List<Recipe<?>> possibleRecipes = allRecipes.stream().filter(r -> {
             AgingRecipe recipe = (AgingRecipe) r;
             if (!recipe.getFluidIngredients().get(0).test(getTank().getFluid())) {
@@ -22,6 +22,7 @@ import com.petrolpark.destroy.fluid.DestroyFluids;
 import com.petrolpark.destroy.fluid.MixtureFluid;
 import com.petrolpark.destroy.recipe.CentrifugationRecipe;
 import com.petrolpark.destroy.recipe.DestroyRecipeTypes;
+import com.petrolpark.destroy.recipe.MixtureRecipeIndex;
 import com.petrolpark.destroy.util.DestroyLang;
 import com.simibubi.create.content.fluids.FluidFX;
 import com.simibubi.create.content.kinetics.base.KineticBlockEntity;
@@ -30,7 +31,6 @@ import com.simibubi.create.foundation.blockEntity.behaviour.BlockEntityBehaviour
 import com.simibubi.create.foundation.blockEntity.behaviour.fluid.SmartFluidTankBehaviour;
 import com.simibubi.create.foundation.fluid.CombinedTankWrapper;
 import com.simibubi.create.foundation.fluid.SmartFluidTank;
-import com.simibubi.create.foundation.recipe.RecipeFinder;
 import com.simibubi.create.foundation.utility.VecHelper;
 
 import net.minecraft.core.BlockPos;
@@ -141,7 +141,7 @@ public class CentrifugeBlockEntity extends KineticBlockEntity implements IDirect
         if (inputTank.isEmpty()) return; // Don't do anything more if input Tank is empty
 
         if (lastRecipe == null || !lastRecipe.getRequiredFluid().test(getInputTank().getFluid())) { // If the Recipe has changed
-            List<Recipe<?>> possibleRecipes = RecipeFinder.get(centrifugationRecipeKey, getLevel(), r -> r.getType() == DestroyRecipeTypes.CENTRIFUGATION.getType()).stream().filter(r -> {
+            List<Recipe<?>> possibleRecipes = MixtureRecipeIndex.getCandidates(centrifugationRecipeKey, getLevel(), DestroyRecipeTypes.CENTRIFUGATION.getType(), getInputTank().getFluid()).stream().filter(r -> {
                 CentrifugationRecipe recipe = (CentrifugationRecipe) r;
                 if (!recipe.getRequiredFluid().test(getInputTank().getFluid())) return false; // If there is insufficient input Fluid
                 if (!canFitFluidInTank(recipe.getDenseOutputFluid(), getDenseOutputTank()) || !canFitFluidInTank(recipe.getLightOutputFluid(), getLightOutputTank())) return false; // If the outputs can't fit
@@ -204,7 +204,7 @@ public class CentrifugeBlockEntity extends KineticBlockEntity implements IDirect
     public void process() {
         if (lastRecipe == null) { // If there is no Recipe
             if (DestroyFluids.isMixture(getInputTank().getFluid())) { // If there are Fluids to Centrifuge
-                ReadOnlyMixture mixture = ReadOnlyMixture.readNBT(getInputTank().getFluid().getOrCreateChildTag("Mixture"));
+                ReadOnlyMixture mixture = ReadOnlyMixture.readSnapshot(getInputTank().getFluid().getOrCreateChildTag("Mixture"));
                 if (mixture == null) return;
                 if (!(DestroyFluids.isMixture(getDenseOutputTank().getFluid()) || getDenseOutputTank().isEmpty()) || !(DestroyFluids.isMixture(getLightOutputTank().getFluid()) || getLightOutputTank().isEmpty())) return; // Don't go any further if either output tank can't take Mixture
                 int amount = IntStream.of(new int[]{getInputTank().getFluidAmount(), getDenseOutputTank().getSpace() * 2, getLightOutputTank().getSpace() * 2}).min().getAsInt(); // Determine how much can be processed
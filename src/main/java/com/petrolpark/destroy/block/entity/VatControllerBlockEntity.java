@@ -68,13 +68,43 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveG
 
     public static final float AIR_PRESSURE = 101000;
 
+    /**
+     * The biggest fractional change in the concentration of any {@link com.petrolpark.destroy.chemistry.Molecule Molecule} allowed over the ticks simulated in one go by a {@link VatControllerBlockEntity#tickInterval quiescent} Vat.
+     */
+    private static final float MAX_BATCHED_RELATIVE_CHANGE = 0.01f;
+    /**
+     * The biggest change in temperature (in kelvins) from heating and cooling allowed over the ticks simulated in one go by a {@link VatControllerBlockEntity#tickInterval quiescent} Vat.
+     */
+    private static final float MAX_BATCHED_TEMPERATURE_CHANGE = 0.5f;
+
     protected Optional<Vat> vat;
 
     /**
      * Server-side only storage of the Mixture so it doesn't have to be de/serialized every tick.
      * This Mixture belongs to an imaginary Fluid Stack with a size equal to the capacity of the Vat.
+     * While the Vat is reacting, this is the authoritative state of its contents and is only {@link VatControllerBlockEntity#updateFluidMixture written}
+     * to the Fluids every {@link com.petrolpark.destroy.config.DestroyContraptionsConfigs#vatFluidSyncInterval few ticks}, or when they are saved or drained.
      */
     protected Mixture cachedMixture;
+    /**
+     * Whether the {@link VatControllerBlockEntity#cachedMixture cached Mixture} has changed since it was last written to the Fluids.
+     */
+    protected boolean fluidMixtureDirty;
+    /**
+     * How many ticks it has been since the {@link VatControllerBlockEntity#cachedMixture cached Mixture} was last written to the Fluids, or the pressure and temperature were last sent to clients.
+     */
+    protected int ticksSinceFluidMixtureUpdate;
+    /**
+     * How many ticks this Vat waits between updates. Vats whose contents are barely changing don't need simulating every tick,
+     * so they save up ticks and {@link Mixture#reactForTicks react} and exchange heat for all of them at once.
+     * This is set back to {@code 1} whenever something changes.
+     * @see VatControllerBlockEntity#updateTickInterval Choosing the interval
+     */
+    protected int tickInterval;
+    /**
+     * How many ticks it has been since this Vat last updated.
+     */
+    protected int ticksSinceUpdate;
     /**
      * The power (in W) being supplied to this Vat. This can be positive (if the Vat is
      * being heated) or negative (if it is being cooled).
@@ -115,6 +145,9 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveG
         initializationTicks = 3;
         underDeconstruction = false;
 
+        tickInterval = 1;
+        ticksSinceUpdate = 0;
+
         fluidCapability = LazyOptional.empty();
         openVentPos = null;
 
@@ -132,6 +165,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveG
         // Fluid behaviour
         tankBehaviour = new VatFluidTankBehaviour(this, 1000000); // Tank capacity is set very high but is not this high in effect
         tankBehaviour.whenFluidUpdates(this::onFluidStackChanged)
+            .beforeExtraction(this::updateFluidMixtureIfDirty) // Anything draining the Vat should get the Mixture as it is now
             .forbidExtraction() // Forbid extraction until the Vat is initialized
             .forbidInsertion(); // Forbid insertion no matter what
         fluidCapability = LazyOptional.empty();
@@ -153,6 +187,14 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveG
 
     public void setInventoryChanged() {
         inventoryChanged = true;
+        resetTickInterval();
+    };
+
+    /**
+     * Make this Vat update every tick again, because something about it has changed.
+     */
+    public void resetTickInterval() {
+        tickInterval = 1;
     };
 
     @Override
@@ -178,13 +220,26 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveG
             boolean shouldUpdateFluidMixture = false;
             Vat vat = getVatOptional().get();
             if (tankBehaviour.isEmpty()) return;
+
+            // Only update quiescent Vats every few ticks
+            ticksSinceUpdate++;
+            if (ticksSinceUpdate < tickInterval) {
+                ventAndCheckPressure(); // Gas still escapes and the Vat can still explode in between
+                return;
+            };
+            int ticks = ticksSinceUpdate;
+            ticksSinceUpdate = 0;
+
             double fluidAmount = getCapacity() / 1000; // 1000 converts getFluidAmount() in mB to Buckets
 
             // Heating
             float energyChange = heatingPower / 20;
             energyChange += (LevelPollution.getLocalTemperature(getLevel(), getBlockPos()) - cachedMixture.getTemperature()) * vat.getConductance() / 20; // Fourier's Law (sort of), the divide by 20 is for 20 ticks per second
+            float temperatureChangePerTick = 0f;
             if (Math.abs(energyChange) > 0.0001f && fluidAmount != 0d) {
-                cachedMixture.heat(energyChange / (float)fluidAmount); 
+                float volumetricHeatCapacity = cachedMixture.getVolumetricHeatCapacity();
+                if (volumetricHeatCapacity != 0f) temperatureChangePerTick = Math.abs(energyChange) / (float)fluidAmount / volumetricHeatCapacity;
+                cachedMixture.heat(energyChange * ticks / (float)fluidAmount); 
             };
 
             // Take all Items out of the Inventory
@@ -206,7 +261,11 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveG
             // Reacting
             if (!cachedMixture.isAtEquilibrium()) {
                 context = new ReactionContext(availableItemStacks, UVPower); // Update the context
-                cachedMixture.reactForTick(context);
+                if (ticks > 1 && DestroyAllConfigs.SERVER.chemistry.adaptiveKinetics.get()) {
+                    cachedMixture.reactForTicks(context, ticks);
+                } else {
+                    for (int i = 0; i < ticks && !cachedMixture.isAtEquilibrium(); i++) cachedMixture.reactForTick(context);
+                };
                 shouldUpdateFluidMixture = true;
 
                 if (!cachedMixture.isAtEquilibrium()) advancementBehaviour.awardDestroyAdvancement(DestroyAdvancements.USE_VAT);
@@ -217,12 +276,6 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveG
                 ItemHandlerHelper.insertItemStacked(inventory, itemStack, false);
             };
 
-            // Releasing gas if there is an open vent
-            VatSideBlockEntity openVent = getOpenVent();
-            if (openVent != null && !getGasTank().isEmptyOrFullOfAir()) {
-                PollutionHelper.pollute(getLevel(), openVent.getBlockPos().relative(openVent.direction), 10, tankBehaviour.flush(cachedMixture.getTemperature()));
-            };
-
             inventoryChanged = false;
 
             if (shouldUpdateFluidMixture) {
@@ -230,16 +283,71 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveG
                 cachedMixture.getCompletedResults(fluidAmount).entrySet().forEach(entry -> {
                     for (int i = 0; i < entry.getValue(); i++) entry.getKey().onVatReaction(getLevel(), this);
                 });
-                updateFluidMixture();
+                fluidMixtureDirty = true;
             };
 
-            // Check for Explosion
-            if (DestroyAllConfigs.SERVER.contraptions.vatExplodesAtHighPressure.get() && Math.abs(getPercentagePressure()) >= 1f) explode();
+            if (ventAndCheckPressure()) return;
+
+            // Only write the Mixture back to the Fluids and tell clients about it every so often, as this is expensive
+            ticksSinceFluidMixtureUpdate += ticks;
+            if (ticksSinceFluidMixtureUpdate >= DestroyAllConfigs.SERVER.contraptions.vatFluidSyncInterval.get()) {
+                if (fluidMixtureDirty) {
+                    updateFluidMixture();
+                } else {
+                    ticksSinceFluidMixtureUpdate = 0;
+                    sendData(); // The temperature and pressure may still have changed
+                };
+            };
 
-            sendData();
+            updateTickInterval(temperatureChangePerTick);
         };
     };
 
+    /**
+     * Release gas if there is an open vent, and explode if the pressure is too high. This happens every tick, even for {@link VatControllerBlockEntity#tickInterval quiescent} Vats.
+     * @return Whether this Vat exploded
+     */
+    protected boolean ventAndCheckPressure() {
+        // Releasing gas if there is an open vent
+        VatSideBlockEntity openVent = getOpenVent();
+        if (openVent != null && (fluidMixtureDirty || !getGasTank().isEmptyOrFullOfAir())) {
+            updateFluidMixtureIfDirty(); // Release the gas as it is now, not as it was when the cached Mixture was last written
+            if (!getGasTank().isEmptyOrFullOfAir()) {
+                PollutionHelper.pollute(getLevel(), openVent.getBlockPos().relative(openVent.direction), 10, tankBehaviour.flush(cachedMixture.getTemperature()));
+                updateCachedMixture(); // The released gas is no longer in the Vat
+            };
+        };
+
+        // Check for Explosion
+        if (DestroyAllConfigs.SERVER.contraptions.vatExplodesAtHighPressure.get() && Math.abs(getPercentagePressure()) >= 1f) {
+            explode();
+            return true;
+        };
+        return false;
+    };
+
+    /**
+     * Decide how many ticks to wait before this Vat next updates, based on how quickly its contents are reacting and changing temperature.
+     * The interval is chosen so that no more than a {@link VatControllerBlockEntity#MAX_BATCHED_RELATIVE_CHANGE small fraction} of any Molecule
+     * reacts, and the temperature {@link VatControllerBlockEntity#MAX_BATCHED_TEMPERATURE_CHANGE barely changes}, in the ticks simulated at once.
+     * <p>The interval can only grow by doubling, so Vats which have just been disturbed ease into batching.</p>
+     * @param temperatureChangePerTick The change in temperature (in kelvins) due to heating and cooling in the last tick
+     */
+    protected void updateTickInterval(float temperatureChangePerTick) {
+        int maxInterval = DestroyAllConfigs.SERVER.contraptions.vatMaxTickInterval.get();
+        if (maxInterval <= 1 || inventoryChanged) {
+            tickInterval = 1;
+            return;
+        };
+
+        float interval = maxInterval;
+        float relativeChange = cachedMixture.getLargestRelativeChange();
+        if (relativeChange > 0f) interval = Math.min(interval, MAX_BATCHED_RELATIVE_CHANGE / relativeChange);
+        if (temperatureChangePerTick > 0f) interval = Math.min(interval, MAX_BATCHED_TEMPERATURE_CHANGE / temperatureChangePerTick);
+
+        tickInterval = Math.max(1, Math.min((int)interval, tickInterval * 2));
+    };
+
     public void explode() {
         explode((level, pos) -> new SmartExplosion(level, null, null, null, pos, 5, 0.6f));
     };
@@ -286,6 +394,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveG
     @Override
     @SuppressWarnings("null")
     protected void write(CompoundTag tag, boolean clientPacket) {
+        if (!clientPacket) updateFluidMixtureIfDirty(); // Make sure the saved Fluids are up to date
         super.write(tag, clientPacket);
 
         tag.putFloat("HeatingPower", heatingPower);
@@ -334,6 +443,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveG
      * @return The amount (in mB) of Fluid which could be or was added
      */
     public int addFluid(FluidStack stack, FluidAction action) {
+        updateFluidMixtureIfDirty(); // The new Fluid is mixed with the Fluid already in the tanks, so they must be up to date
         int amountAdded = fluidCapability.map(fh -> fh.fill(stack, action)).orElse(0);
         if (amountAdded != 0 && action == FluidAction.EXECUTE) {
             updateCachedMixture();
@@ -359,6 +469,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveG
             return;
         };
         cachedMixture = tankBehaviour.getCombinedMixture();
+        resetTickInterval(); // The contents have changed
     };
 
     /**
@@ -367,9 +478,24 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveG
      */
     private void updateFluidMixture() {
         if (getVatOptional().isEmpty()) return;
+        writeCachedMixtureToFluids();
+        sendData();
+    };
+
+    /**
+     * {@link VatControllerBlockEntity#updateFluidMixture Set the Mixture} stored in the NBT of the contained Fluids if the cached Mixture has changed since it was last set.
+     * This should be called before anything reads or removes the contained Fluids on the server side.
+     */
+    public void updateFluidMixtureIfDirty() {
+        if (!fluidMixtureDirty || getVatOptional().isEmpty() || cachedMixture == null) return;
+        writeCachedMixtureToFluids();
+    };
+
+    private void writeCachedMixtureToFluids() {
+        fluidMixtureDirty = false; // Clear this first, in case anything reading the Fluids while they are being replaced checks it
+        ticksSinceFluidMixtureUpdate = 0;
         tankBehaviour.setMixture(cachedMixture, vat.get().getCapacity()); //TODO swap Fluid to not use entire vat capacity
         updateGasVolume();
-        sendData();
     };
 
     /**
@@ -448,6 +574,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveG
             pollutionPos = posDestroyed.relative(vatSideOptional.get().direction);
         };
 
+        updateFluidMixtureIfDirty();
         PollutionHelper.pollute(getLevel(), pollutionPos, getLiquidTank().getFluid(), getGasTank().getFluid());
 
         getLiquidTank().setFluid(FluidStack.EMPTY);
@@ -468,6 +595,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveG
         UVPower = 0f;
 
         cachedMixture = new Mixture();
+        fluidMixtureDirty = false;
         vat = Optional.empty();
         underDeconstruction = false;
         invalidateRenderBoundingBox(); // Update the render bounding box to be smaller
@@ -539,11 +667,13 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveG
 
     public void changeHeatingPower(float powerChange) {
         heatingPower += powerChange;
+        resetTickInterval();
         sendData();
     };
 
     public void changeUVPower(float UVChange) {
         UVPower += UVChange;
+        resetTickInterval();
         sendData();
     };
 
@@ -567,16 +697,18 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveG
     };
 
     /**
-     * Get the pressure above room pressure of the gas in this Vat.
+     * Get the pressure above room pressure of the gas in this Vat. On the server side this is worked out from the {@link VatControllerBlockEntity#cachedMixture cached Mixture},
+     * so it is up to date even if the Fluids are not.
      */
     @SuppressWarnings("null")
     public float getPressure() {
         if (getLevel().isClientSide()) return pressure.getChaseTarget(); // It thinks getLevel() might be null (it's not)
-        if (!getVatOptional().isPresent() || getOpenVent() != null) return 0f;
-        if (getGasTank().isEmpty()) {
-            return getLiquidTank().isEmpty() ? 0f : AIR_PRESSURE; // Return 0 for a vacuum, and normal air pressure for a full Vat
+        if (!getVatOptional().isPresent() || getOpenVent() != null || cachedMixture == null) return 0f;
+        float gasConcentration = cachedMixture.getGasConcentration(getCapacity());
+        if (gasConcentration == 0f) {
+            return cachedMixture.isEmpty() ? 0f : AIR_PRESSURE; // Return 0 for a vacuum, and normal air pressure for a full Vat
         };
-        return Reaction.GAS_CONSTANT * getTemperature() * ReadOnlyMixture.readNBT(getGasTank().getFluid().getOrCreateChildTag("Mixture")).getTotalConcentration() - AIR_PRESSURE;
+        return Reaction.GAS_CONSTANT * getTemperature() * gasConcentration - AIR_PRESSURE;
     };
 
     /**
@@ -2,9 +2,13 @@ package com.petrolpark.destroy.block.entity.behaviour;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nullable;
 
 import com.petrolpark.destroy.chemistry.Reaction;
 import com.petrolpark.destroy.chemistry.ReactionResult;
+import com.petrolpark.destroy.recipe.ReactionInBasinRecipe.ReactionInBasinOutcome;
 import com.petrolpark.destroy.util.PollutionHelper;
 import com.simibubi.create.content.kinetics.mixer.MechanicalMixerBlockEntity;
 import com.simibubi.create.content.processing.basin.BasinBlockEntity;
@@ -28,11 +32,43 @@ public class ExtendedBasinBehaviour extends BlockEntityBehaviour {
     private Map<ReactionResult, Integer> reactionResults;
     public FluidStack evaporatedFluid;
 
+    /**
+     * Whether this Basin is waiting for the Reaction in it to be {@link com.petrolpark.destroy.recipe.ReactionInBasinSimulator simulated}. This is synced to the client.
+     */
+    public boolean simulating;
+    /**
+     * The inputs to the most recent {@link com.petrolpark.destroy.recipe.ReactionInBasinSimulator simulation} this Basin asked for, which is kept so the Basin
+     * doesn't ask again while its contents stay the same. This is not saved.
+     */
+    private CompoundTag simulationInputs;
+    private CompletableFuture<ReactionInBasinOutcome> simulation;
+
     public ExtendedBasinBehaviour(SmartBlockEntity be) {
         super(be);
         tooFullToReact = false;
         reactionResults = new HashMap<>();
         evaporatedFluid = FluidStack.EMPTY;
+        simulating = false;
+    };
+
+    /**
+     * Get the {@link com.petrolpark.destroy.recipe.ReactionInBasinSimulator simulation} this Basin already asked for, if it was for the same inputs.
+     * @param inputs
+     * @return {@code null} if this Basin has not asked about these inputs
+     */
+    @Nullable
+    public CompletableFuture<ReactionInBasinOutcome> getSimulation(CompoundTag inputs) {
+        if (simulation == null || !inputs.equals(simulationInputs)) return null;
+        return simulation;
+    };
+
+    public void setSimulation(CompoundTag inputs, CompletableFuture<ReactionInBasinOutcome> simulation) {
+        simulationInputs = inputs;
+        this.simulation = simulation;
+    };
+
+    public boolean isSimulating() {
+        return simulation != null && !simulation.isDone();
     };
 
     public void setReactionResults(Map<ReactionResult, Integer> results) {
@@ -83,6 +119,7 @@ public class ExtendedBasinBehaviour extends BlockEntityBehaviour {
     @Override
     public void read(CompoundTag nbt, boolean clientPacket) {
         tooFullToReact = nbt.getBoolean("TooFullToReact");
+        simulating = clientPacket && nbt.getBoolean("Simulating");
 
         reactionResults = new HashMap<>();
         ListTag results = nbt.getList("Results", Tag.TAG_COMPOUND);
@@ -100,6 +137,7 @@ public class ExtendedBasinBehaviour extends BlockEntityBehaviour {
     @Override
 	public void write(CompoundTag nbt, boolean clientPacket) {
         nbt.putBoolean("TooFullToReact", tooFullToReact);
+        if (clientPacket) nbt.putBoolean("Simulating", simulating);
 
         nbt.put("Results", NBTHelper.writeCompoundList(reactionResults.entrySet(), entry -> {
             CompoundTag resultTag = new CompoundTag();
@@ -1,6 +1,8 @@
 package com.petrolpark.destroy.block.entity.behaviour.fluidTankBehaviour;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.function.Consumer;
 
 import com.petrolpark.destroy.chemistry.Mixture;
@@ -11,10 +13,12 @@ import com.simibubi.create.foundation.blockEntity.behaviour.BehaviourType;
 import com.simibubi.create.foundation.blockEntity.behaviour.fluid.SmartFluidTankBehaviour;
 import com.simibubi.create.foundation.fluid.SmartFluidTank;
 
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.fluids.capability.templates.FluidTank;
 
 public class GeniusFluidTankBehaviour extends SmartFluidTankBehaviour {
     
@@ -38,6 +42,14 @@ public class GeniusFluidTankBehaviour extends SmartFluidTankBehaviour {
 		};
         capability = LazyOptional.of(() -> new InternalFluidHandler(handlers, enforceVariety));
     };
+
+    @Override
+    public void tick() {
+        for (TankSegment tank : tanks) {
+            if (tank instanceof GeniusTankSegment geniusTank) geniusTank.getTank().mixPending(); // Mix everything that was added last tick, all at once
+        };
+        super.tick();
+    };
     
     public class GeniusTankSegment extends TankSegment {
 
@@ -52,31 +64,101 @@ public class GeniusFluidTankBehaviour extends SmartFluidTankBehaviour {
 
     };
 
+    /**
+     * A Fluid Tank into which {@link Mixture Mixtures} can be added even if they are not identical to the Mixture already in it.
+     * <p>Pipes can fill a tank many times each tick, so rather than decoding and {@link Mixture#mix mixing} every time, the Mixtures
+     * added are kept aside (grouped by their contents) and only {@link GeniusFluidTank#mixPending mixed} once, either when the
+     * Fluid in the tank is next looked at or when the owner next ticks (the {@link GeniusFluidTankBehaviour behaviour}, or the
+     * {@link com.petrolpark.destroy.mixin.FluidTankBlockEntityMixin Fluid Tank}). The amount of Fluid in the tank is always up to date.</p>
+     */
     public static class GeniusFluidTank extends SmartFluidTank {
 
+        private final Consumer<FluidStack> updateCallback;
+
+        /**
+         * The Mixtures which have been added to this tank but not yet {@link GeniusFluidTank#mixPending mixed} in, mapped to their total amounts (in mB).
+         * These are already included in the amount of {@link GeniusFluidTank#fluid the Fluid}, but not in its NBT.
+         */
+        protected final Map<CompoundTag, Integer> pendingMixtures;
+
         public GeniusFluidTank(int capacity, Consumer<FluidStack> updateCallback) {
             super(capacity, updateCallback);
+            this.updateCallback = updateCallback;
+            pendingMixtures = new LinkedHashMap<>();
         };
 
         @Override
         public int fill(FluidStack resource, FluidAction action) {
-            int filled = super.fill(resource, action);
-            if (filled == 0 && getSpace() > 0) { // If we wouldn't usually be able to insert, and we're not full (i.e. the Fluids are 'different')
-                if (!DestroyFluids.isMixture(resource) || !DestroyFluids.isMixture(fluid)) return 0;
-                if (!resource.getOrCreateTag().contains("Mixture", Tag.TAG_COMPOUND) || !fluid.getOrCreateTag().contains("Mixture", Tag.TAG_COMPOUND)) return 0;
-                Mixture existingMixture = Mixture.readNBT(fluid.getOrCreateTag().getCompound("Mixture"));
-                Mixture addedMixture = Mixture.readNBT(resource.getOrCreateTag().getCompound("Mixture"));
-
-                int amountOfMixtureAdded = Math.min(getSpace(), resource.getAmount());
-                int existingAmount = fluid.getAmount();
-                if (!action.simulate()) { // We don't need to do anything further if we're just simulating
-                    Mixture newMixture = Mixture.mix(Map.of(existingMixture, (double)existingAmount / 1000d, addedMixture, (double)amountOfMixtureAdded / 1000d));
-                    setFluid(MixtureFluid.of(existingAmount + amountOfMixtureAdded, newMixture));
-                };
-
-                return amountOfMixtureAdded; 
+            if (pendingMixtures.isEmpty()) { // If there's nothing pending then the NBT of the Fluid is up to date, so we can check if the Fluids are identical
+                int filled = super.fill(resource, action);
+                if (filled != 0) return filled;
+            };
+            if (resource.isEmpty() || getSpace() <= 0) return 0; // If we wouldn't usually be able to insert, and we're not full (i.e. the Fluids are 'different')
+            if (!DestroyFluids.isMixture(resource) || !DestroyFluids.isMixture(fluid)) return 0;
+            if (!resource.getOrCreateTag().contains("Mixture", Tag.TAG_COMPOUND) || !fluid.getOrCreateTag().contains("Mixture", Tag.TAG_COMPOUND)) return 0;
+
+            int amountOfMixtureAdded = Math.min(getSpace(), resource.getAmount());
+            if (!action.simulate()) { // We don't need to do anything further if we're just simulating
+                pendingMixtures.merge(resource.getTag().getCompound("Mixture").copy(), amountOfMixtureAdded, Integer::sum);
+                fluid.grow(amountOfMixtureAdded);
+                updateCallback.accept(fluid); // Don't use onContentsChanged() as that would get the Fluid, mixing it straight away
+            };
+
+            return amountOfMixtureAdded;
+        };
+
+        /**
+         * {@link Mixture#mix Mix} all the Mixtures which have been {@link GeniusFluidTank#fill added} to this tank since it was last done into the Fluid it contains.
+         * This is done automatically whenever the Fluid is needed, so should only need to be called to spread the work out.
+         */
+        public void mixPending() {
+            if (pendingMixtures.isEmpty()) return;
+            int totalAmount = fluid.getAmount();
+            int existingAmount = totalAmount;
+            Mixture.Accumulator accumulator = new Mixture.Accumulator();
+            for (Entry<CompoundTag, Integer> pendingMixture : pendingMixtures.entrySet()) {
+                accumulator.add(pendingMixture.getKey(), (double)pendingMixture.getValue() / 1000d); // Only the existing Mixture needs reading in full
+                existingAmount -= pendingMixture.getValue();
             };
-            return filled;
+            Mixture existingMixture = Mixture.readNBT(fluid.getOrCreateTag().getCompound("Mixture"));
+            pendingMixtures.clear();
+            setFluid(MixtureFluid.of(totalAmount, accumulator.mixInto(existingMixture, (double)existingAmount / 1000d)));
+        };
+
+        @Override
+        public FluidStack getFluid() {
+            mixPending();
+            return super.getFluid();
+        };
+
+        @Override
+        public void setFluid(FluidStack stack) {
+            pendingMixtures.clear();
+            super.setFluid(stack);
+        };
+
+        @Override
+        public FluidStack drain(int maxDrain, FluidAction action) {
+            mixPending();
+            return super.drain(maxDrain, action);
+        };
+
+        @Override
+        public FluidStack drain(FluidStack resource, FluidAction action) {
+            mixPending();
+            return super.drain(resource, action);
+        };
+
+        @Override
+        public CompoundTag writeToNBT(CompoundTag nbt) {
+            mixPending();
+            return super.writeToNBT(nbt);
+        };
+
+        @Override
+        public FluidTank readFromNBT(CompoundTag nbt) {
+            pendingMixtures.clear();
+            return super.readFromNBT(nbt);
         };
 
     };
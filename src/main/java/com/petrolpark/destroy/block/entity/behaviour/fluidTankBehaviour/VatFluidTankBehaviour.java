@@ -27,6 +27,11 @@ public class VatFluidTankBehaviour extends GeniusFluidTankBehaviour {
     protected boolean liquidFull;
     protected int vatCapacity;
 
+    /**
+     * Called before any Fluid is drained from this Vat, so the owner can make sure the Fluids are up to date.
+     */
+    protected Runnable beforeExtraction;
+
     public VatFluidTankBehaviour(SmartBlockEntity be, int vatCapacity) {
         super(SmartFluidTankBehaviour.TYPE, be, 2, vatCapacity, false);
 
@@ -41,6 +46,17 @@ public class VatFluidTankBehaviour extends GeniusFluidTankBehaviour {
         liquidFull = false;
 
         this.vatCapacity = vatCapacity;
+        beforeExtraction = () -> {};
+    };
+
+    /**
+     * Set what should happen before any Fluid is drained from this Vat.
+     * @param beforeExtraction
+     * @return This behaviour
+     */
+    public VatFluidTankBehaviour beforeExtraction(Runnable beforeExtraction) {
+        this.beforeExtraction = beforeExtraction;
+        return this;
     };
 
     public VatFluidTank getLiquidHandler() {
@@ -91,7 +107,7 @@ public class VatFluidTankBehaviour extends GeniusFluidTankBehaviour {
             totalVolume += gasStack.getAmount();
         };
 
-        Mixture mixture = Mixture.mix(mixtures);
+        Mixture mixture = Mixture.mixInto(mixtures);
         mixture.scale((float)vatCapacity / (float)totalVolume); //TODO use different volume as this makes things slowww
         return mixture;
     };
@@ -122,9 +138,16 @@ public class VatFluidTankBehaviour extends GeniusFluidTankBehaviour {
         return mixture;
     };
 
+    /**
+     * Replace the contents of this Vat with the given Mixture, {@link Mixture#separatePhases separated} into liquid and gas.
+     * The old contents are emptied directly rather than drained, so this doesn't trigger {@link VatFluidTankBehaviour#beforeExtraction}.
+     * @param mixture
+     * @param amount The volume (in mB) of the Mixture
+     */
     public void setMixture(Mixture mixture, int amount) {
         capability.ifPresent(fluidHandler -> {
-            fluidHandler.drain(vatCapacity, FluidAction.EXECUTE);
+            getLiquidHandler().setFluid(FluidStack.EMPTY);
+            getGasHandler().setFluid(FluidStack.EMPTY);
             liquidFull = false;
             fluidHandler.fill(MixtureFluid.of(amount, mixture), FluidAction.EXECUTE);
         });
@@ -207,7 +230,7 @@ public class VatFluidTankBehaviour extends GeniusFluidTankBehaviour {
                     combinedVolume += phases.gasVolume();
                 };
 
-                Mixture combinedGasMixture = Mixture.mix(mixtures);
+                Mixture combinedGasMixture = Mixture.mixInto(mixtures);
                 if (combinedVolume > 0d && !combinedGasMixture.isEmpty()) {
                     combinedGasMixture.scale((float)(freeSpace / combinedVolume)); // Scale it so it takes up all available space not taken up by the liquid
                     getGasHandler().setFluid(MixtureFluid.of(freeSpace, combinedGasMixture));
@@ -275,8 +298,15 @@ public class VatFluidTankBehaviour extends GeniusFluidTankBehaviour {
 
             @Override
             public FluidStack drain(int maxDrain, FluidAction action) {
+                beforeExtraction.run();
                 return super.drain(maxDrain, action);
             };
+
+            @Override
+            public FluidStack drain(FluidStack resource, FluidAction action) {
+                beforeExtraction.run();
+                return super.drain(resource, action);
+            };
         };
     };
 
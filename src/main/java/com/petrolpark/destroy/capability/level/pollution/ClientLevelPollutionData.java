@@ -1,5 +1,20 @@
 package com.petrolpark.destroy.capability.level.pollution;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+import com.petrolpark.destroy.capability.level.pollution.LevelPollution.PollutionType;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.entity.player.Player;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 
@@ -7,11 +22,142 @@ import net.minecraftforge.api.distmarker.OnlyIn;
 public class ClientLevelPollutionData {
     private static LevelPollution levelPollution;
 
+    /**
+     * How many noticeably different shades of Smog tint there are, from none to full.
+     */
+    private static final int SMOG_TINT_STEPS = 32;
+
+    /**
+     * The Pollution in each {@link PollutionRegions region} near the Player, if the server has regional Pollution enabled.
+     * This is concurrent as it is read when coloring blocks, which doesn't happen on the main thread.
+     */
+    private static final Map<Long, int[]> regions = new ConcurrentHashMap<>();
+    private static boolean regional = false;
+
+    /**
+     * The Smog level for which grass and leaves were last colored.
+     */
+    private static int renderedSmog = 0;
+
+    /**
+     * The Smog level for which grass and leaves in each {@link ClientLevelPollutionData#regions region} were last colored, if it wasn't zero.
+     */
+    private static final Map<Long, Integer> renderedRegionalSmog = new HashMap<>();
+
     public static void setLevelPollution(LevelPollution levelPollution) {
         ClientLevelPollutionData.levelPollution = levelPollution;
+        regions.clear(); // Regions will be sent again if they are needed
+        renderedRegionalSmog.clear();
+        regional = false;
+        renderedSmog = levelPollution.get(PollutionType.SMOG);
+    };
+
+    /**
+     * Update the types of Pollution in the whole Level which have changed.
+     * <p>Grass and leaves only get their Smog tint when the chunk they are in is rebuilt, so if the Smog level has changed noticeably since they were
+     * last colored, every chunk is rebuilt to avoid boundaries between old and new colors.</p>
+     * @param changes The new value of each type of Pollution which has changed
+     */
+    @SuppressWarnings("resource")
+    public static void updateLevelPollution(Map<PollutionType, Integer> changes) {
+        if (levelPollution == null) return;
+        changes.forEach(levelPollution::set);
+        if (!regional && Math.abs(levelPollution.get(PollutionType.SMOG) - renderedSmog) >= PollutionType.SMOG.max / SMOG_TINT_STEPS) {
+            renderedSmog = levelPollution.get(PollutionType.SMOG);
+            Minecraft.getInstance().levelRenderer.allChanged();
+        };
     };
 
     public static LevelPollution getLevelPollution() {
         return levelPollution;
     };
+
+    /**
+     * Update the Pollution in the regions near the Player.
+     * <p>As with {@link ClientLevelPollutionData#updateLevelPollution Pollution in the whole Level}, grass and leaves only get their Smog tint when their chunk is rebuilt,
+     * so the chunks in each region whose Smog level has changed noticeably since they were last colored are rebuilt.</p>
+     * @param reset Whether to forget all regions first
+     * @param changes See {@link PollutionRegions#getChangesToSend}
+     */
+    @SuppressWarnings("resource")
+    public static void updateRegions(boolean reset, Map<Long, int[]> changes) {
+        Set<Long> forgottenRegions = new HashSet<>();
+        if (reset) {
+            forgottenRegions.addAll(regions.keySet());
+            regions.clear();
+        };
+        if (!regional) { // Everything was colored for the Smog in the whole Level until now
+            regional = true;
+            Minecraft.getInstance().levelRenderer.allChanged();
+        };
+        changes.forEach((region, changed) -> {
+            if (changed == null) {
+                regions.remove(region);
+                forgottenRegions.add(region);
+                return;
+            };
+            forgottenRegions.remove(region);
+            int[] existing = regions.get(region);
+            int[] levels = existing == null ? new int[changed.length] : existing.clone(); // Copy so blocks being colored never see a half-updated region
+            for (int i = 0; i < changed.length && i < levels.length; i++) {
+                if (changed[i] >= 0) levels[i] = changed[i];
+            };
+            regions.put(region, levels);
+            updateRenderedRegionalSmog(region, levels[PollutionType.SMOG.ordinal()]);
+        });
+        for (long region : forgottenRegions) updateRenderedRegionalSmog(region, 0); // Regions with no information have no Smog
+    };
+
+    /**
+     * Rebuild every chunk in the given region if its Smog level has changed noticeably since its grass and leaves were last colored.
+     * @param region
+     * @param smog The new Smog level in the region
+     */
+    @SuppressWarnings("resource")
+    private static void updateRenderedRegionalSmog(long region, int smog) {
+        if (Math.abs(smog - renderedRegionalSmog.getOrDefault(region, 0)) < PollutionType.SMOG.max / SMOG_TINT_STEPS) return;
+        if (smog == 0) {
+            renderedRegionalSmog.remove(region);
+        } else {
+            renderedRegionalSmog.put(region, smog);
+        };
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level == null) return;
+        int regionSize = 1 << PollutionRegions.REGION_SHIFT;
+        int minChunkX = ChunkPos.getX(region) << PollutionRegions.REGION_SHIFT;
+        int minChunkZ = ChunkPos.getZ(region) << PollutionRegions.REGION_SHIFT;
+        for (int chunkX = minChunkX; chunkX < minChunkX + regionSize; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ < minChunkZ + regionSize; chunkZ++) {
+                for (int sectionY = level.getMinSection(); sectionY < level.getMaxSection(); sectionY++) {
+                    Minecraft.getInstance().levelRenderer.setSectionDirty(chunkX, sectionY, chunkZ);
+                };
+            };
+        };
+    };
+
+    /**
+     * Get the value of the given type of Pollution where the Player is.
+     * @param pollutionType
+     * @return 0 if there is no information about Pollution
+     */
+    @SuppressWarnings("resource")
+    public static int getPollution(PollutionType pollutionType) {
+        Player player = Minecraft.getInstance().player;
+        return getPollution(player == null ? null : player.blockPosition(), pollutionType);
+    };
+
+    /**
+     * Get the value of the given type of Pollution at the given position, which is only different from the value for the whole Level
+     * if the server has {@link PollutionRegions regional Pollution} enabled.
+     * @param pos
+     * @param pollutionType
+     * @return 0 if there is no information about Pollution
+     */
+    public static int getPollution(@Nullable BlockPos pos, PollutionType pollutionType) {
+        if (regional && pos != null) {
+            int[] levels = regions.get(PollutionRegions.getRegion(pos));
+            return levels == null ? 0 : levels[pollutionType.ordinal()];
+        };
+        return levelPollution == null ? 0 : levelPollution.get(pollutionType);
+    };
 }
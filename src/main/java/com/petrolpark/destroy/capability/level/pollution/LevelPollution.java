@@ -22,6 +22,7 @@ public class LevelPollution {
 
     private Map<PollutionType, Integer> levels;
     private float outdoorTemperature; // In kelvins
+    private final PollutionRegions regions;
 
     private boolean hasPollutionEverBeenMaxed;
     private boolean hasPollutionEverBeenFullyReduced;
@@ -34,6 +35,7 @@ public class LevelPollution {
         hasPollutionEverBeenMaxed = false;
         hasPollutionEverBeenFullyReduced = false;
         outdoorTemperature = 289.0f; // 16ºC
+        regions = new PollutionRegions();
     };
 
     /**
@@ -44,6 +46,14 @@ public class LevelPollution {
         return levels.get(pollutionType);
     };
 
+    /**
+     * Get the Pollution in each region of this Level, which is used instead of the {@link LevelPollution#get global values} if
+     * {@link PollutionHelper#regionalPollutionEnabled regional Pollution} is enabled.
+     */
+    public PollutionRegions getRegions() {
+        return regions;
+    };
+
     /**
      * Get the global outdoor temperature, not accounting for the biome.
      * @return Temperature in kelvins
@@ -63,7 +73,12 @@ public class LevelPollution {
      */
     public static float getLocalTemperature(Level level, BlockPos pos) {
         return level.getCapability(LevelPollutionProvider.LEVEL_POLLUTION).map(pollution -> {
-            return pollution.outdoorTemperature + (10f * level.getBiome(pos).get().getBaseTemperature());
+            float temperature = pollution.outdoorTemperature;
+            if (PollutionHelper.regionalPollutionEnabled()) {
+                long region = PollutionRegions.getRegion(pos);
+                temperature = getTemperature(pollution.regions.get(region, PollutionType.GREENHOUSE), pollution.regions.get(region, PollutionType.OZONE_DEPLETION));
+            };
+            return temperature + (10f * level.getBiome(pos).get().getBaseTemperature());
         }).orElse(289f);
     };
 
@@ -132,11 +147,21 @@ public class LevelPollution {
     };
 
     public void updateTemperature() {
-        outdoorTemperature = 289f;
-        if (!PollutionHelper.pollutionEnabled() || !DestroyAllConfigs.COMMON.pollution.temperatureAffected.get()) return;
-        outdoorTemperature +=
-            (levels.get(PollutionType.GREENHOUSE) / PollutionType.GREENHOUSE.max) * 20f
-          + (levels.get(PollutionType.OZONE_DEPLETION) / PollutionType.OZONE_DEPLETION.max) * 4f;
+        outdoorTemperature = getTemperature(levels.get(PollutionType.GREENHOUSE), levels.get(PollutionType.OZONE_DEPLETION));
+    };
+
+    /**
+     * Get the outdoor temperature, not accounting for the Biome, given the levels of Pollution which affect it.
+     * @param greenhouse
+     * @param ozoneDepletion
+     * @return Temperature in kelvins
+     */
+    protected static float getTemperature(int greenhouse, int ozoneDepletion) {
+        float temperature = 289f;
+        if (!PollutionHelper.pollutionEnabled() || !DestroyAllConfigs.COMMON.pollution.temperatureAffected.get()) return temperature;
+        return temperature
+            + ((float)greenhouse / PollutionType.GREENHOUSE.max) * 20f
+            + ((float)ozoneDepletion / PollutionType.OZONE_DEPLETION.max) * 4f;
     };
 
     /**
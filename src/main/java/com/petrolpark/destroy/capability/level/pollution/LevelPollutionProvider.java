@@ -5,6 +5,7 @@ import org.jetbrains.annotations.Nullable;
 
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.CapabilityManager;
 import net.minecraftforge.common.capabilities.CapabilityToken;
@@ -38,13 +39,17 @@ public class LevelPollutionProvider implements ICapabilityProvider, INBTSerializ
     @Override
     public CompoundTag serializeNBT() {
         CompoundTag nbt = new CompoundTag();
-        createLevelPollution().saveNBTData(nbt);
+        LevelPollution levelPollution = createLevelPollution();
+        levelPollution.saveNBTData(nbt);
+        nbt.put("Regions", levelPollution.getRegions().save()); // Not part of the Level Pollution's own NBT, which is sent to clients
         return nbt;
     };
 
     @Override
     public void deserializeNBT(CompoundTag nbt) {
-        createLevelPollution().loadNBTData(nbt);
+        LevelPollution levelPollution = createLevelPollution();
+        levelPollution.loadNBTData(nbt);
+        levelPollution.getRegions().load(nbt.getList("Regions", Tag.TAG_COMPOUND));
     };
     
 };
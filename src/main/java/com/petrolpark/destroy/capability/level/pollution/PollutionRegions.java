@@ -0,0 +1,275 @@
+package com.petrolpark.destroy.capability.level.pollution;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+import com.petrolpark.destroy.capability.level.pollution.LevelPollution.PollutionType;
+import com.petrolpark.destroy.config.DestroyPollutionConfigs;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+
+/**
+ * Pollution stored separately for each region of {@link PollutionRegions#REGION_SHIFT four by four chunks} in a Level, which is used instead of the
+ * single value for the whole Level when {@link DestroyPollutionConfigs#regionalPollution regional Pollution} is enabled. Pollution stays in the region
+ * where it was released, gradually {@link PollutionRegions#diffuse spreading} out to neighbouring regions and dying away.
+ * <p>Regions with no Pollution at all are not stored, so this only takes up space (and time) around wherever chemicals have actually been released.</p>
+ */
+public class PollutionRegions {
+
+    /**
+     * How many bits chunk coordinates are shifted by to get region coordinates, so each region is four by four chunks.
+     */
+    public static final int REGION_SHIFT = 2;
+
+    /**
+     * On average, how many ticks it takes for each type of Pollution in a region to drop by one, the same as for Pollution across the whole Level.
+     */
+    private static final int TICKS_PER_DECAY = 100;
+
+    private static final PollutionType[] TYPES = PollutionType.values();
+
+    private final Map<Long, Region> regions;
+
+    /**
+     * Regions which have not yet been {@link PollutionRegions#diffuse diffused} in this cycle through all the regions.
+     */
+    private final Deque<Long> diffusionQueue;
+
+    /**
+     * What each Player was last {@link PollutionRegions#getChangesToSend sent} about each region near them. This is not saved.
+     */
+    private final Map<UUID, Map<Long, int[]>> sentToPlayers;
+
+    public PollutionRegions() {
+        regions = new HashMap<>();
+        diffusionQueue = new ArrayDeque<>();
+        sentToPlayers = new HashMap<>();
+    };
+
+    /**
+     * Get the key of the region containing the given position.
+     */
+    public static long getRegion(BlockPos pos) {
+        return ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()) >> REGION_SHIFT, SectionPos.blockToSectionCoord(pos.getZ()) >> REGION_SHIFT);
+    };
+
+    /**
+     * Get the value of the given type of Pollution in the given region.
+     * @param region See {@link PollutionRegions#getRegion}
+     * @param pollutionType
+     */
+    public int get(long region, PollutionType pollutionType) {
+        if (pollutionType == null) return 0;
+        Region pollution = regions.get(region);
+        if (pollution == null) return 0;
+        return pollution.levels[pollutionType.ordinal()];
+    };
+
+    /**
+     * Set the value of the given type of Pollution in the given region.
+     * @param region See {@link PollutionRegions#getRegion}
+     * @param pollutionType
+     * @param value Will be set within the {@link PollutionType bounds}
+     * @param gameTime The current game time, from which the Pollution in a new region starts dying away
+     * @return The actual value to which the Pollution level was set
+     */
+    public int set(long region, PollutionType pollutionType, int value, long gameTime) {
+        if (pollutionType == null) return 0;
+        value = Mth.clamp(value, 0, pollutionType.max);
+        Region pollution = regions.get(region);
+        if (pollution == null) {
+            if (value == 0) return 0; // Don't bother storing empty regions
+            pollution = new Region(gameTime);
+            regions.put(region, pollution);
+        };
+        pollution.levels[pollutionType.ordinal()] = value;
+        if (pollution.isEmpty()) regions.remove(region);
+        return value;
+    };
+
+    /**
+     * Increase the value of the given type of Pollution in the given region by the given amount, within the {@link PollutionType bounds} of that type of Pollution.
+     * @param region See {@link PollutionRegions#getRegion}
+     * @param pollutionType
+     * @param change Can be positive or negative
+     * @param gameTime The current game time
+     * @return The actual value to which the Pollution level was set
+     */
+    public int change(long region, PollutionType pollutionType, int change, long gameTime) {
+        return set(region, pollutionType, get(region, pollutionType) + change, gameTime);
+    };
+
+    /**
+     * Spread Pollution from some of the regions into their neighbours, and let it die away.
+     * <p>Only so many regions are dealt with each tick, working round all the regions in turn, so a huge polluted Level doesn't take any longer
+     * to tick than a small one. Regions which are not dealt with for a while catch up on how much their Pollution should have dropped
+     * the next time they are.</p>
+     * @param gameTime The current game time
+     * @param regionsPerTick The most regions to deal with
+     * @param diffusionRate The proportion of the difference in Pollution between each region and each of its neighbours which flows into that neighbour
+     */
+    public void diffuse(long gameTime, int regionsPerTick, float diffusionRate) {
+        boolean refilled = false;
+        for (int i = 0; i < regionsPerTick; i++) {
+            if (diffusionQueue.isEmpty()) {
+                if (refilled) break; // Don't deal with any region twice in one tick
+                diffusionQueue.addAll(regions.keySet());
+                refilled = true;
+                if (diffusionQueue.isEmpty()) break;
+            };
+            long key = diffusionQueue.poll();
+            Region region = regions.get(key);
+            if (region == null) continue; // This region has been cleared since the cycle started
+
+            int decay = (int)((gameTime - region.lastUpdated) / TICKS_PER_DECAY);
+            region.lastUpdated += (long)decay * TICKS_PER_DECAY;
+
+            int x = ChunkPos.getX(key);
+            int z = ChunkPos.getZ(key);
+            long[] neighbours = new long[]{ChunkPos.asLong(x + 1, z), ChunkPos.asLong(x - 1, z), ChunkPos.asLong(x, z + 1), ChunkPos.asLong(x, z - 1)};
+            for (PollutionType pollutionType : TYPES) {
+                int value = Math.max(0, region.levels[pollutionType.ordinal()] - decay);
+                for (long neighbour : neighbours) {
+                    int flow = (int)((value - get(neighbour, pollutionType)) * diffusionRate);
+                    if (flow <= 0) continue;
+                    value -= flow;
+                    change(neighbour, pollutionType, flow, gameTime);
+                };
+                region.levels[pollutionType.ordinal()] = value;
+            };
+            if (region.isEmpty()) regions.remove(key);
+        };
+    };
+
+    /**
+     * Work out which types of Pollution in the regions near a Player have changed since they were last sent, and remember that they have now been sent.
+     * @param player The Player's UUID
+     * @param centre The region the Player is in
+     * @param radius How many regions in each direction from the {@code centre} the Player should know about
+     * @return A map of regions to the new value of each type of Pollution (or {@code -1} for types which haven't changed), with {@code null} values
+     * for regions the Player is now too far away from and should forget. Regions in which nothing has changed are left out.
+     */
+    public Map<Long, int[]> getChangesToSend(UUID player, long centre, int radius) {
+        Map<Long, int[]> sent = sentToPlayers.computeIfAbsent(player, p -> new HashMap<>());
+        Map<Long, int[]> changes = new HashMap<>();
+        int centreX = ChunkPos.getX(centre);
+        int centreZ = ChunkPos.getZ(centre);
+
+        // Forget about regions which are now too far away
+        Iterator<Long> sentRegions = sent.keySet().iterator();
+        while (sentRegions.hasNext()) {
+            long region = sentRegions.next();
+            if (Math.abs(ChunkPos.getX(region) - centreX) > radius || Math.abs(ChunkPos.getZ(region) - centreZ) > radius) {
+                sentRegions.remove();
+                changes.put(region, null);
+            };
+        };
+
+        for (int x = centreX - radius; x <= centreX + radius; x++) {
+            for (int z = centreZ - radius; z <= centreZ + radius; z++) {
+                long key = ChunkPos.asLong(x, z);
+                Region region = regions.get(key);
+                int[] previous = sent.get(key);
+                if (region == null && previous == null) continue; // The Player already knows there's no Pollution here
+                int[] current = region == null ? new int[TYPES.length] : region.levels;
+                int[] changed = new int[TYPES.length];
+                boolean anyChanged = false;
+                for (int i = 0; i < TYPES.length; i++) {
+                    int previousValue = previous == null ? 0 : previous[i];
+                    if (current[i] == previousValue) {
+                        changed[i] = -1;
+                    } else {
+                        changed[i] = current[i];
+                        anyChanged = true;
+                    };
+                };
+                if (region == null) {
+                    sent.remove(key);
+                } else {
+                    sent.put(key, Arrays.copyOf(current, TYPES.length));
+                };
+                if (anyChanged) changes.put(key, changed);
+            };
+        };
+
+        return changes;
+    };
+
+    /**
+     * Whether the given Player has been sent anything about these regions since they were last {@link PollutionRegions#forgetPlayersExcept forgotten}.
+     */
+    public boolean hasBeenSentTo(UUID player) {
+        return sentToPlayers.containsKey(player);
+    };
+
+    /**
+     * Stop remembering what was sent to Players who are no longer in this Level, so they get sent everything again if they come back.
+     * @param players The Players still in this Level
+     */
+    public void forgetPlayersExcept(Collection<UUID> players) {
+        sentToPlayers.keySet().retainAll(players);
+    };
+
+    /**
+     * Remove all Pollution from all regions.
+     */
+    public void clear() {
+        regions.clear();
+        diffusionQueue.clear();
+    };
+
+    public ListTag save() {
+        ListTag list = new ListTag();
+        regions.forEach((key, region) -> {
+            CompoundTag tag = new CompoundTag();
+            tag.putLong("Region", key);
+            tag.putIntArray("Levels", region.levels);
+            tag.putLong("LastUpdated", region.lastUpdated);
+            list.add(tag);
+        });
+        return list;
+    };
+
+    public void load(ListTag list) {
+        clear();
+        for (Tag tag : list) {
+            if (!(tag instanceof CompoundTag regionTag)) continue;
+            Region region = new Region(regionTag.getLong("LastUpdated"));
+            int[] levels = regionTag.getIntArray("Levels");
+            System.arraycopy(levels, 0, region.levels, 0, Math.min(levels.length, TYPES.length));
+            if (!region.isEmpty()) regions.put(regionTag.getLong("Region"), region);
+        };
+    };
+
+    protected static class Region {
+
+        private final int[] levels;
+
+        /**
+         * The game time up to which the Pollution in this region has died away.
+         */
+        private long lastUpdated;
+
+        protected Region(long lastUpdated) {
+            levels = new int[TYPES.length];
+            this.lastUpdated = lastUpdated;
+        };
+
+        public boolean isEmpty() {
+            for (int level : levels) if (level != 0) return false;
+            return true;
+        };
+    };
+};
@@ -1,13 +1,14 @@
 package com.petrolpark.destroy.chemistry;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Map.Entry;
+import java.util.function.Function;
 
 import javax.annotation.Nullable;
 
@@ -80,6 +81,29 @@ public class Formula implements Cloneable {
     @Nullable
     private String optimumFROWNSCode;
 
+    /**
+     * The maximum number of {@link Formula#deserialize deserialized} Formulae which are remembered at once.
+     */
+    private static final int MAX_CACHED_FORMULAE = 1024;
+
+    /**
+     * How close the masses of two sides of an {@link Atom} must be for them to count as tied when {@link Formula#getMaximumBranchWithHighestMass choosing where to start} a FROWNS code.
+     * This allows for the masses being added up in a different order than when they are compared properly.
+     */
+    private static final float TIED_MASS_TOLERANCE = 0.01f;
+
+    /**
+     * Formulae which have already been {@link Formula#deserialize deserialized}, mapped to the FROWNS codes from which they were made.
+     * These are never modified and only ever handed out as {@link Formula#shallowCopy copies}.
+     * This is access-ordered so that the least recently used Formula is the one which gets discarded.
+     */
+    private static final Map<String, Formula> DESERIALIZED_FORMULAE = Collections.synchronizedMap(new LinkedHashMap<>(MAX_CACHED_FORMULAE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Formula> eldest) {
+            return size() > MAX_CACHED_FORMULAE;
+        };
+    });
+
     private Formula() {
         structure = new HashMap<Atom, List<Bond>>();
         groups = new ArrayList<>();
@@ -559,8 +583,10 @@ public class Formula implements Cloneable {
      * Get the <a href = "https://github.com/petrolpark/Destroy/wiki/FROWNS">FROWNS</a> code of this Formula.
      * This does not fresly calculate the FROWNS code each time, meaning Formulae should not be modifed without
      * first {@link Formula#shallowCopy copying} them.
+     * <p>This is synchronized as the Formulae of known {@link Molecule Molecules} are shared, and can be serialized from
+     * {@link com.petrolpark.destroy.recipe.ReactionInBasinSimulator Basin simulation} threads.</p>
      */
-    public String serialize() {
+    public synchronized String serialize() {
 
         if (optimumFROWNSCode != null) { //in case this has already been serialized, we don't want to calculate it again
             return optimumFROWNSCode;
@@ -601,22 +627,35 @@ public class Formula implements Cloneable {
             };
 
             // Sort the possible reflections so the first element is the reflection that gives the highest mass branch in position 0, the next highest in position 1, etc.
-            Collections.sort(possibleReflections, (r1, r2) -> getReflectionComparison(r1).compareTo(getReflectionComparison(r2)));
+            // Reflections which tie are put in order of the code they give, so the same isomer always gets the same code
+            Map<List<Branch>, String> reflectionBodies = new HashMap<>();
+            Collections.sort(possibleReflections, (r1, r2) -> {
+                int comparison = getReflectionComparison(r1).compareTo(getReflectionComparison(r2));
+                if (comparison != 0) return comparison;
+                return reflectionBodies.computeIfAbsent(r1, Formula::serializeReflection).compareTo(reflectionBodies.computeIfAbsent(r2, Formula::serializeReflection));
+            });
 
-            List<Branch> bestReflection = possibleReflections.get(0);
-            if (bestReflection.size() > 0) for (int i = 0; i < topology.getConnections(); i++) {
-                Branch branch = bestReflection.get(i);
-                if (!branch.getStartNode().getAtom().isHydrogen()) { // If there's actually a chain to add and not just a hydrogen
-                    body += branch.serialize();
-                };
-                body += ",";
-            };
-            if (body.length() > 0) body = body.substring(0, body.length() - 1); // The -1 removes the final comma
+            body = serializeReflection(possibleReflections.get(0));
         };
 
         optimumFROWNSCode = prefix + ":" + body;
         return optimumFROWNSCode;
+    };
 
+    /**
+     * Get the body of a cyclic FROWNS code, with the given {@link Branch Branches} in each of the {@link Topology}'s positions in order.
+     * @param reflection
+     */
+    private static String serializeReflection(List<Branch> reflection) {
+        String body = "";
+        for (Branch branch : reflection) {
+            if (!branch.getStartNode().getAtom().isHydrogen()) { // If there's actually a chain to add and not just a hydrogen
+                body += branch.serialize();
+            };
+            body += ",";
+        };
+        if (body.length() > 0) body = body.substring(0, body.length() - 1); // The -1 removes the final comma
+        return body;
     };
 
     private static Float getReflectionComparison(List<Branch> reflection) {
@@ -627,6 +666,15 @@ public class Formula implements Cloneable {
         return total;
     };
 
+    /**
+     * Get the {@link Formula#getMaximumBranch biggest directed Branch} of the given structure, starting from whichever terminal {@link Atom} gives the FROWNS code.
+     * That is the lightest terminal Atom, and of those, the one whose longest chain is heaviest. If that still leaves more than one, the one giving the
+     * alphabetically first code is used, so the same structure always gets the same code however it was built.
+     * <p>Rather than building the whole Branch from every terminal Atom to compare them, the mass on each side of every {@link Bond} is worked out once,
+     * so the longest chain from each terminal Atom can be found just by walking along it. Where two sides weigh the same the walk could go either way,
+     * so the Branch is built properly instead.</p>
+     * @param structure Must be acyclic
+     */
     private static Branch getMaximumBranchWithHighestMass(Map<Atom, List<Bond>> structure) {
         List<Atom> terminalAtoms = new ArrayList<>();
         for (Atom atom : structure.keySet()) {
@@ -634,55 +682,129 @@ public class Formula implements Cloneable {
                 terminalAtoms.add(atom);
             };
         };
+        if (terminalAtoms.isEmpty() && structure.size() == 1) return new Branch(new Node(structure.keySet().iterator().next())); // Single Atoms have no terminal Atoms
+
+        // Work out the mass of everything below each Atom, if the structure were hanging from the first terminal Atom
+        Atom root = terminalAtoms.get(0);
+        Map<Atom, Atom> parents = new HashMap<>();
+        Map<Atom, Float> subtreeMasses = getSubtreeMasses(root, structure, parents);
+        float totalMass = subtreeMasses.get(root);
+
+        // Find the mass of the longest chain starting from each terminal Atom
+        Map<Atom, Float> longestChainMasses = new HashMap<>(terminalAtoms.size());
+        checkEachTerminalAtom: for (Atom terminalAtom : terminalAtoms) {
+            float longestChainMass = 0f;
+            Atom previousAtom = null;
+            Atom currentAtom = terminalAtom;
+            while (currentAtom != null) {
+                longestChainMass += Branch.getMassForComparisonInSerialization(currentAtom);
+                Atom nextAtom = null;
+                float nextMass = 0f;
+                boolean tied = false;
+                for (Bond bond : structure.get(currentAtom)) { // Continue along the heaviest side
+                    Atom connectedAtom = bond.getDestinationAtom();
+                    if (connectedAtom == previousAtom || !structure.containsKey(connectedAtom)) continue;
+                    float mass = parents.get(connectedAtom) == currentAtom ? subtreeMasses.get(connectedAtom) : totalMass - subtreeMasses.get(currentAtom); // Mass on the far side of this Bond
+                    if (nextAtom != null && Math.abs(mass - nextMass) < TIED_MASS_TOLERANCE) tied = true;
+                    if (nextAtom == null || mass > nextMass) {
+                        if (nextAtom != null && mass - nextMass >= TIED_MASS_TOLERANCE) tied = false;
+                        nextAtom = connectedAtom;
+                        nextMass = mass;
+                    };
+                };
+                if (tied) { // Which way the chain goes depends on how the tie is broken, so build the Branch properly
+                    longestChainMasses.put(terminalAtom, getMaximumBranch(terminalAtom, structure).getMassOfLongestChain());
+                    continue checkEachTerminalAtom;
+                };
+                previousAtom = currentAtom;
+                currentAtom = nextAtom;
+            };
+            longestChainMasses.put(terminalAtom, longestChainMass);
+        };
 
         Collections.sort(terminalAtoms, (a1, a2) -> {
-            return getMaximumBranch(a2, structure).getMassOfLongestChain().compareTo(getMaximumBranch(a1, structure).getMassOfLongestChain()); // Put in descending order of chain length
+            return longestChainMasses.get(a2).compareTo(longestChainMasses.get(a1)); // Put in descending order of chain length
         });
         Collections.sort(terminalAtoms, (a1, a2) -> {
             return Branch.getMassForComparisonInSerialization(a1).compareTo(Branch.getMassForComparisonInSerialization(a2));
         });
 
-        return getMaximumBranch(terminalAtoms.get(0), structure);
+        Atom bestTerminalAtom = terminalAtoms.get(0);
+        Branch bestBranch = getMaximumBranch(bestTerminalAtom, structure);
+        String bestCode = null;
+        for (Atom terminalAtom : terminalAtoms.subList(1, terminalAtoms.size())) {
+            if (!Branch.getMassForComparisonInSerialization(terminalAtom).equals(Branch.getMassForComparisonInSerialization(bestTerminalAtom)) || !longestChainMasses.get(terminalAtom).equals(longestChainMasses.get(bestTerminalAtom))) break; // The rest are worse
+            if (bestCode == null) bestCode = bestBranch.serialize();
+            Branch branch = getMaximumBranch(terminalAtom, structure);
+            String code = branch.serialize();
+            if (code.compareTo(bestCode) < 0) {
+                bestBranch = branch;
+                bestCode = code;
+            };
+        };
+        return bestBranch;
     };
 
     /**
      * Creates a Formula from a <a href="https://github.com/petrolpark/Destroy/wiki/FROWNS">FROWNS</a> code.
      * Hydrogens will be {@link Formula#addAllHydrogens added automatically}.
+     * <p>Each FROWNS code is only read once; after that, {@link Formula#shallowCopy copies} of the {@link Formula#DESERIALIZED_FORMULAE remembered Formula} are given.</p>
      * @param FROWNSstring
      * @return A new Formula instance
      */
     public static Formula deserialize(String FROWNSstring) {
+        Formula formula = DESERIALIZED_FORMULAE.get(FROWNSstring);
+        if (formula == null) {
+            formula = read(FROWNSstring);
+            DESERIALIZED_FORMULAE.put(FROWNSstring, formula);
+        };
+        return formula.shallowCopy();
+    };
+
+    /**
+     * Reads a <a href="https://github.com/petrolpark/Destroy/wiki/FROWNS">FROWNS</a> code in a single pass.
+     * @param FROWNSstring
+     * @see Formula#deserialize The wrapper for this Method, which remembers the results
+     */
+    private static Formula read(String FROWNSstring) {
         try {
             Formula formula;
 
-            String[] topologyAndFormula = FROWNSstring.strip().split(":");
-            Topology topology;
-            String formulaString;
+            String code = FROWNSstring.strip();
+            int firstColon = code.indexOf(':');
+            int secondColon = firstColon == -1 ? -1 : code.indexOf(':', firstColon + 1);
+            if (secondColon == -1 || secondColon == code.length() - 1 || code.indexOf(':', secondColon + 1) != -1) throw new MoleculeDeserializationException("Badly formatted FROWNS string '"+FROWNSstring+"'. They should be in the format 'namespace:topology:chains'.");
 
-            if (topologyAndFormula.length == 3) {
-                topology = Topology.getTopology(topologyAndFormula[0] + ":" + topologyAndFormula[1]);
-                formulaString = topologyAndFormula[2];
-            } else {
-                throw new MoleculeDeserializationException("Badly formatted FROWNS string '"+FROWNSstring+"'. They should be in the format 'namespace:topology:chains'.");
-            };
+            Topology topology = Topology.getTopology(code.substring(0, secondColon));
 
             if (topology == Topology.LINEAR) {
-                List<String> symbols = Arrays.stream(formulaString.split("(?=\\p{Upper})")).toList(); //split String into sub-strings that start with a capital letter (i.e. Elements)
-                formula = groupFromString(symbols);
+                FROWNSReader reader = new FROWNSReader(code, secondColon + 1, code.length());
+                formula = reader.readGroup();
+                reader.checkFinished();
             } else {
                 if (topology.formula == null) throw new MoleculeDeserializationException("Missing base formula for Topology "+topology.getID());
                 formula = topology.formula.shallowCopy(); // Gives a null warning which has been accounted for
                 if (topology.getConnections() == 0) return formula.refreshFunctionalGroups();
+
+                int end = code.length();
+                while (end > secondColon + 1 && code.charAt(end - 1) == ',') end--; // Trailing empty groups are left for the Hydrogens
+
                 int i = 0;
-                for (String group : formulaString.split(",")) {
-                    if (i > formula.topology.connections.size()) throw new MoleculeDeserializationException("Formula '" + FROWNSstring + "' has too many groups for its Topology. There should be " + formula.topology.connections.size() + ".");
+                int groupStart = secondColon + 1;
+                while (groupStart < end) {
+                    int groupEnd = code.indexOf(',', groupStart);
+                    if (groupEnd == -1 || groupEnd > end) groupEnd = end;
+                    if (i >= formula.topology.connections.size()) throw new MoleculeDeserializationException("Formula '" + FROWNSstring + "' has too many groups for its Topology. There should be " + formula.topology.connections.size() + ".");
                     Formula sideChain;
-                    if (group.isBlank()) {
+                    if (groupStart == groupEnd) {
                         sideChain = new Formula(new Atom(Element.HYDROGEN));
                     } else {
-                        sideChain = groupFromString(Arrays.stream(group.split("(?=\\p{Upper})")).toList());
+                        FROWNSReader reader = new FROWNSReader(code, groupStart, groupEnd);
+                        sideChain = reader.readGroup();
+                        reader.checkFinished();
                     };
                     formula.addGroupToPosition(sideChain, i, formula.topology.connections.get(i).bondType());
+                    groupStart = groupEnd + 1;
                     i++;
                 };
             };
@@ -698,13 +820,15 @@ public class Formula implements Cloneable {
 
     /**
      * Checks this structure for any {@link Group functional Groups} it contains and updates the {@link Formula#groups stored Groups}.
+     * The structure is {@link StructureIndex indexed} once and the index is shared between every {@link GroupFinder}.
      * @return This Formula
      */
     public Formula refreshFunctionalGroups() {
         groups = new ArrayList<>();
+        StructureIndex index = new StructureIndex(structure);
         for (GroupFinder finder : GroupFinder.allGroupFinders()) {
             //if (topology == Topology.LINEAR) {
-                groups.addAll(finder.findGroups(structure));
+                groups.addAll(finder.findGroups(structure, index));
             // } else {
             //     for (Pair<SideChainInformation, Formula> sideChain : sideChains) {
             //         groups.addAll(finder.findGroups(sideChain.getSecond().structure)); // Don't include cyclic Atoms in Groups
@@ -720,9 +844,10 @@ public class Formula implements Cloneable {
      * <li>{@link Formula#moveTo Moving to an Atom}</li>
      * <li>{@link Formula#remove Removing an Atom}</li>
      * </ul>This is useful for generating specific {@link Reaction Reactions} from {@link GenericReaction Generic Reactions}.
+     * <p>This never modifies this Formula, and is synchronized with {@link Formula#serialize serialization} (which can update the side chains), so shared Formulae can be copied from any thread.</p>
      * @return A new Formula instance
      */
-    public Formula shallowCopy() {
+    public synchronized Formula shallowCopy() {
         try {
 
             Formula newFormula = (Formula) super.clone();
@@ -730,8 +855,8 @@ public class Formula implements Cloneable {
             newFormula.structure = shallowCopyStructure(structure); // Shallow copy the Structure
             newFormula.groups = new ArrayList<>(groups); // Shallow copy the Groups
             newFormula.topology = this.topology; // Shallow copy the Topology
-            updateSideChainStructures();
             newFormula.sideChains = sideChains.stream().map(pair -> Pair.of(pair.getFirst(), pair.getSecond().shallowCopy())).toList();
+            newFormula.updateSideChainStructures(); // Update the copy rather than this Formula, which may be a remembered Formula shared between threads
             newFormula.optimumFROWNSCode = null; // Delete the FROWNS Code, as copies are typically going to be modified
 
             return newFormula;
@@ -780,83 +905,111 @@ public class Formula implements Cloneable {
 
     /**
      * Get the biggest directed {@link Branch} of {@link Node Nodes} generated from the given structure, starting from the given {@link Atom}.
+     * At every Atom where the structure branches, the Branch carries on along the heaviest side and the other sides become side Branches.
      * @param startAtom Should not be an {@link Atom#isAcidicProton() acidic proton}
-     * @param structure The {@link Formula#structure structure} for which to find the branch
+     * @param structure The {@link Formula#structure structure} for which to find the branch. Only the part connected to the start Atom is included, and it must be acyclic.
      */
     private static Branch getMaximumBranch(Atom startAtom, Map<Atom, List<Bond>> structure) {
+        return getMaximumBranch(startAtom, null, structure);
+    };
 
-        Map<Atom, Node> allNodes = new HashMap<>();
-
-        for (Atom atom : structure.keySet()) {
-            allNodes.put(atom, new Node(atom));
-        };
+    /**
+     * Get the biggest directed {@link Branch} of {@link Node Nodes} hanging from the given {@link Atom}, not going back towards its parent.
+     * <p>The heaviest side carries on the Branch and the others become side Branches, lightest first. Sides of equal mass are put in order of their own
+     * FROWNS code (including the Bond to them), so the same structure always gets the same code.</p>
+     * @param startAtom
+     * @param parentAtom The Atom from which we reached the start Atom, or {@code null} if this is the very start
+     * @param structure
+     */
+    private static Branch getMaximumBranch(Atom startAtom, @Nullable Atom parentAtom, Map<Atom, List<Bond>> structure) {
 
-        Node currentNode = allNodes.get(startAtom);
+        Node currentNode = new Node(startAtom);
         currentNode.visited = true;
+        Atom previousAtom = parentAtom;
 
         Branch maximumBranch = new Branch(currentNode);
 
-        Boolean nodesAdded = true;
-        while (nodesAdded) {
-            nodesAdded = false;
-            Map<Node, BondType> connectedUnvisitedNodesAndTheirBondTypes = new HashMap<>();
+        while (true) {
+            List<Bond> bondsToUnvisitedAtoms = new ArrayList<>();
             for (Bond bond : structure.get(currentNode.getAtom())) {
-                Node connectedNode = allNodes.get(bond.getDestinationAtom());
-                if (connectedNode != null && !connectedNode.visited) {
-                    connectedUnvisitedNodesAndTheirBondTypes.put(connectedNode, bond.getType());
+                Atom connectedAtom = bond.getDestinationAtom();
+                if (connectedAtom != previousAtom && structure.containsKey(connectedAtom)) {
+                    bondsToUnvisitedAtoms.add(bond);
                 };
             };
 
-            if (connectedUnvisitedNodesAndTheirBondTypes.size() == 1) {
-                Node onlyNode = connectedUnvisitedNodesAndTheirBondTypes.keySet().iterator().next();
-                maximumBranch.add(onlyNode, connectedUnvisitedNodesAndTheirBondTypes.get(onlyNode));
+            if (bondsToUnvisitedAtoms.size() == 1) {
+                Bond onlyBond = bondsToUnvisitedAtoms.get(0);
+                Node onlyNode = new Node(onlyBond.getDestinationAtom());
+                maximumBranch.add(onlyNode, onlyBond.getType());
+                previousAtom = currentNode.getAtom();
                 currentNode = onlyNode;
-                nodesAdded = true;
 
-            } else if (connectedUnvisitedNodesAndTheirBondTypes.size() != 0) {
+            } else if (bondsToUnvisitedAtoms.size() != 0) {
 
                 Map<Branch, BondType> connectedBranchesAndTheirBondTypes = new HashMap<>();
-                for (Node node : connectedUnvisitedNodesAndTheirBondTypes.keySet()) {
-
-                    Map<Atom, List<Bond>> newStructure = shallowCopyStructure(structure); // Create a new Structure which does not include the current Node
-                    Bond bondToRemove = null;
-                    for (Bond bond : structure.get(node.getAtom())) {
-                        if (bond.getDestinationAtom() == currentNode.getAtom()) {
-                            bondToRemove = bond;
-                        };
-                    };
-
-                    if (bondToRemove != null) {
-                        newStructure.get(node.getAtom()).remove(bondToRemove);
-                    };
-
-                    newStructure.remove(currentNode.getAtom());
-                    
-                    Branch branch = getMaximumBranch(node.getAtom(), newStructure);
-                    connectedBranchesAndTheirBondTypes.put(branch, connectedUnvisitedNodesAndTheirBondTypes.get(node));
+                for (Bond bond : bondsToUnvisitedAtoms) {
+                    connectedBranchesAndTheirBondTypes.put(getMaximumBranch(bond.getDestinationAtom(), currentNode.getAtom(), structure), bond.getType());
                 };
 
+                Map<Branch, String> tieBreakers = new HashMap<>();
+                Function<Branch, String> tieBreaker = branch -> tieBreakers.computeIfAbsent(branch, b -> connectedBranchesAndTheirBondTypes.get(b).getFROWNSCode() + b.serialize());
                 List<Branch> orderedConnectedBranches = new ArrayList<>(connectedBranchesAndTheirBondTypes.keySet());
                 Collections.sort(orderedConnectedBranches, (b1, b2) -> {
-                    return b2.getMass().compareTo(b1.getMass());
+                    int comparison = b1.getMass().compareTo(b2.getMass()); // Put in ascending order of mass
+                    if (comparison != 0) return comparison;
+                    return tieBreaker.apply(b1).compareTo(tieBreaker.apply(b2));
                 });
 
-                Branch biggestBranch = orderedConnectedBranches.get(0);
-                maximumBranch.add(biggestBranch, connectedBranchesAndTheirBondTypes.get(biggestBranch));
-
-                orderedConnectedBranches.remove(0); //remove the biggest Branch
-
-                for (Branch sideBranch : orderedConnectedBranches) {
+                Branch biggestBranch = orderedConnectedBranches.get(orderedConnectedBranches.size() - 1);
+                for (Branch sideBranch : orderedConnectedBranches.subList(0, orderedConnectedBranches.size() - 1)) {
                     currentNode.addSideBranch(sideBranch, connectedBranchesAndTheirBondTypes.get(sideBranch));
                 };
 
-            } else {
+                maximumBranch.add(biggestBranch, connectedBranchesAndTheirBondTypes.get(biggestBranch));
+                break;
 
+            } else {
+                break;
             };
         };
 
         return maximumBranch;
-        
+    };
+
+    /**
+     * Work out the total mass (for {@link Branch#getMassForComparisonInSerialization serialization}) of every {@link Atom} hanging from each Atom, if the structure were hanging from the given root.
+     * This is done in one traversal, rather than building a {@link Branch} for every Atom and weighing it.
+     * @param root
+     * @param structure Must be acyclic
+     * @param parents Filled with the Atom above each Atom (the root has none)
+     * @return Every Atom connected to the root mapped to the mass hanging from it, including its own
+     */
+    private static Map<Atom, Float> getSubtreeMasses(Atom root, Map<Atom, List<Bond>> structure, Map<Atom, Atom> parents) {
+        Map<Atom, Float> subtreeMasses = new HashMap<>();
+
+        // Put the Atoms in an order where every Atom comes after the one above it
+        List<Atom> order = new ArrayList<>();
+        order.add(root);
+        for (int i = 0; i < order.size(); i++) {
+            Atom atom = order.get(i);
+            for (Bond bond : structure.get(atom)) {
+                Atom connectedAtom = bond.getDestinationAtom();
+                if (connectedAtom == parents.get(atom) || connectedAtom == root || !structure.containsKey(connectedAtom) || parents.containsKey(connectedAtom)) continue;
+                parents.put(connectedAtom, atom);
+                order.add(connectedAtom);
+            };
+        };
+
+        // Then add up the masses from the bottom
+        for (int i = order.size() - 1; i >= 0; i--) {
+            Atom atom = order.get(i);
+            subtreeMasses.merge(atom, Branch.getMassForComparisonInSerialization(atom), (f1, f2) -> f1 + f2);
+            Atom parent = parents.get(atom);
+            if (parent != null) subtreeMasses.merge(parent, subtreeMasses.get(atom), (f1, f2) -> f1 + f2);
+        };
+
+        return subtreeMasses;
     };
 
     /**
@@ -907,115 +1060,6 @@ public class Formula implements Cloneable {
         structureToMutate.get(atom2).add(bond.getMirror());
     };
 
-    /**
-     * Recursively {@link Formula#serialize serializes} a <a href="https://github.com/petrolpark/Destroy/wiki/FROWNS">FROWNS</a> code.
-     * @param symbols A FROWNS code split into individual Strings, each String containing a single {@link Atom}
-     * @return A new Formula instance represented by the given FROWNS code
-     */
-    private static Formula groupFromString(List<String> symbols) {
-
-        Formula formula = Formula.nothing();
-        Boolean hasFormulaBeenInstantiated = false;
-
-        BondType nextAtomBond = BondType.SINGLE;
-
-        int i = 0;
-        while (i < symbols.size()) {
-
-            if (symbols.get(i).matches(".*\\)")) throw new MoleculeDeserializationException("Chain bond type symbols must preceed side groups; for example chloroethene must be 'destroy:linear:C=(Cl)C' and not 'destroy:linear:C(Cl)=C'.");
-
-            String symbol;
-            Map<Formula, BondType> groupsToAdd = new HashMap<>(); //a list of all the Groups to be added, and the Type of Bond by which they should be added
-            BondType thisAtomBond = nextAtomBond;
-
-            if (symbols.get(i).contains("(")) { //If this Atom marks the beginning of a side Group (i.e. the next Atom will comprise the start of the side Group)
-
-                BondType groupBond = trailingBondType(symbols.get(i)); //get the Bond Type to the Group
-
-                symbol = symbols.get(i).substring(0, symbols.get(i).indexOf('(')); //Strip off the '(' and everything after it
-
-                int brackets = 1;
-                List<String> subSymbols = new ArrayList<>();
-                while (brackets > 0) { //Keep going until the closing bracket is found
-                    i++; //move to next Atom
-                    Boolean added = false;
-                    for (int j = 0; j < symbols.get(i).length(); j++) {
-                        char c = symbols.get(i).charAt(j);
-                        if (c == ')') {
-                            brackets--;
-                        } else if (c == '(') {
-                            brackets++;
-                        };
-                        if (brackets == 0) { //if this is the last Atom in the side Group
-                            subSymbols.add(symbols.get(i).substring(0, j)); //add this Atom, but not the closing bracket or anything afterwards
-                            groupsToAdd.put(groupFromString(subSymbols), groupBond); //as this is the final Atom in the side Group, mark the Group to be added
-                            subSymbols = new ArrayList<>(); //empty the list of Atoms in the side Group (as a new side Group may be about to start)
-                            groupBond = trailingBondType(symbols.get(i)); //check what the Bond will be if there is to be another Group
-                            added = true;
-                        };
-                    };
-                    if (!added) {
-                        subSymbols.add(symbols.get(i)); //if this was not the final Atom in the side Group, add it to the Group
-                    };
-                };
-
-            } else { //if this was not an Atom in a side Group
-                symbol = symbols.get(i);
-            };
-
-            Boolean stripBond = true; //start by assuming by a =/#/~ will have to be taken off the end of the Symbol
-            nextAtomBond = BondType.SINGLE; //start by assuming the next Bond will be single
-            switch (symbol.charAt(symbol.length() - 1)) {
-                case '=':
-                    nextAtomBond = BondType.DOUBLE;
-                    break;
-                case '#':
-                    nextAtomBond = BondType.TRIPLE;
-                    break;
-                case '~':
-                    nextAtomBond = BondType.AROMATIC;
-                    break;
-                default: //if there is no =/#/~, then don't actually take anything off
-                    stripBond = false;
-            };
-            if (stripBond) symbol = symbol.substring(0, symbol.length() - 1);
-
-            // Check if this is a numbered R-Group
-            char lastChar = symbol.charAt(symbol.length() - 1);
-            int rGroupNumber = 0;
-            if (Character.isDigit(lastChar)) {
-                symbol = symbol.substring(0, symbol.length() - 1);
-                rGroupNumber = Integer.valueOf(lastChar - '0');
-            };
-            Atom atom = new Atom(Element.fromSymbol(symbol));
-            atom.rGroupNumber = rGroupNumber;
-
-            // Add the Atom to the Formula
-            if (hasFormulaBeenInstantiated) { //if this is not the first Atom
-                formula.addGroup(new Formula(atom), false, thisAtomBond);
-            } else {
-                formula = new Formula(atom);
-                hasFormulaBeenInstantiated = true;
-            };
-
-            for (Formula group : groupsToAdd.keySet()) { //add all side Groups to the current Atom
-                formula.addGroup(group, true, groupsToAdd.get(group));
-            };
-
-            i++; //move to the next Atom
-        };
-
-        return formula;
-    };
-
-    /**
-     * The {@link Bond.BondType type of Bond} after an {@link Element} symbol in a <a href="https://github.com/petrolpark/Destroy/wiki/FROWNS">FROWNS</a> code.
-     * @param symbol A String which is part of a FROWNS Code, consisting of a single {@link Atom}
-     */
-    private static BondType trailingBondType(String symbol) {
-        return BondType.fromFROWNSCode(symbol.charAt(symbol.length() - 1));
-    };
-
     /**
      * Removes all non-{@link Atom#isAcidicProton acidic} hydrogen {@link Atom Atoms} from a {@link Formula#startingAtom structure}. This is mutative.
      * @param structure The structure from which to remove the hydrogen Atoms
@@ -1037,6 +1081,102 @@ public class Formula implements Cloneable {
         return newStructure;
     };
 
+    /**
+     * Reads part of a <a href="https://github.com/petrolpark/Destroy/wiki/FROWNS">FROWNS</a> code one character at a time, without splitting it up first.
+     */
+    private static class FROWNSReader {
+
+        private final String code;
+        private final int end;
+        private int position;
+
+        /**
+         * @param code The whole FROWNS code
+         * @param start The index of the first character of the chain to read
+         * @param end The index after the last character of the chain to read
+         */
+        private FROWNSReader(String code, int start, int end) {
+            this.code = code;
+            this.end = end;
+            position = start;
+        };
+
+        /**
+         * Recursively reads a chain of {@link Atom Atoms}, and all their side Groups, until the end of the code or a closing bracket.
+         * @return A new Formula instance represented by the chain
+         */
+        private Formula readGroup() {
+            Formula formula = null;
+            BondType thisAtomBond = BondType.SINGLE;
+
+            while (position < end && code.charAt(position) != ')') {
+
+                // Read the Element symbol, which is a capital letter followed by any lower case letters
+                int symbolStart = position;
+                if (!Character.isUpperCase(code.charAt(position))) throw new MoleculeDeserializationException("Expected an Element symbol at position " + position + " of FROWNS code '" + code + "'.");
+                position++;
+                while (position < end && Character.isLowerCase(code.charAt(position))) position++;
+                Atom atom = new Atom(Element.fromSymbol(code.substring(symbolStart, position)));
+
+                // Check if this is a numbered R-Group
+                if (position < end && Character.isDigit(code.charAt(position))) {
+                    atom.rGroupNumber = code.charAt(position) - '0';
+                    position++;
+                };
+
+                // Check the Bond to the next Atom in the chain
+                BondType nextAtomBond = BondType.SINGLE;
+                if (position < end && isBondSymbol(code.charAt(position))) {
+                    nextAtomBond = BondType.fromFROWNSCode(code.charAt(position));
+                    position++;
+                };
+
+                // Read all side Groups
+                List<Pair<Formula, BondType>> groupsToAdd = new ArrayList<>(); // A list of all the Groups to be added, and the Type of Bond by which they should be added
+                while (position < end && code.charAt(position) == '(') {
+                    position++;
+                    BondType groupBond = BondType.SINGLE;
+                    if (position < end && isBondSymbol(code.charAt(position))) {
+                        groupBond = BondType.fromFROWNSCode(code.charAt(position));
+                        position++;
+                    };
+                    Formula group = readGroup();
+                    if (position >= end) throw new MoleculeDeserializationException("Unclosed bracket in FROWNS code '" + code + "'.");
+                    position++; // Skip the closing bracket
+                    groupsToAdd.add(Pair.of(group, groupBond));
+                };
+                if (position < end && isBondSymbol(code.charAt(position))) throw new MoleculeDeserializationException("Chain bond type symbols must preceed side groups; for example chloroethene must be 'destroy:linear:C=(Cl)C' and not 'destroy:linear:C(Cl)=C'.");
+
+                // Add the Atom to the Formula
+                if (formula != null) { // If this is not the first Atom
+                    formula.addGroup(new Formula(atom), false, thisAtomBond);
+                } else {
+                    formula = new Formula(atom);
+                };
+
+                for (Pair<Formula, BondType> group : groupsToAdd) { // Add all side Groups to the current Atom
+                    formula.addGroup(group.getFirst(), true, group.getSecond());
+                };
+
+                thisAtomBond = nextAtomBond;
+            };
+
+            if (formula == null) throw new MoleculeDeserializationException("Empty group at position " + position + " of FROWNS code '" + code + "'.");
+            return formula;
+        };
+
+        /**
+         * Throws an error if there is anything left over after {@link FROWNSReader#readGroup reading} the top-level chain, which would mean there were too many closing brackets.
+         */
+        private void checkFinished() {
+            if (position < end) throw new MoleculeDeserializationException("Unexpected '" + code.charAt(position) + "' at position " + position + " of FROWNS code '" + code + "'.");
+        };
+
+        private static boolean isBondSymbol(char c) {
+            return c == '=' || c == '#' || c == '~';
+        };
+    };
+
     /**
      * A 3D structure of a {@link Molecule} if it is cyclic.
      * This class contains {@link com.petrolpark.destroy.client.gui.MoleculeRenderer rendering} information.
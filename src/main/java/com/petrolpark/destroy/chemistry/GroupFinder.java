@@ -40,6 +40,18 @@ public abstract class GroupFinder {
      */
     public abstract List<Group<?>> findGroups(Map<Atom, List<Bond>> structure);
 
+    /**
+     * Given a structure and an {@link StructureIndex index} of it, this function should return all {@link Group functional Groups} that the structure contains.
+     * This is what {@link Formula#refreshFunctionalGroups} calls, so that the structure only needs indexing once however many Group Finders there are.
+     * Group Finders which look at lots of Atoms should override this and use the index; by default it just {@link GroupFinder#findGroups(Map) ignores the index}.
+     * @param structure A Map of {@link Atom Atoms} to all {@link Bond Bonds} that Atom has (see the {@code structure} property of {@link Formula})
+     * @param index An index of the same structure
+     * @return The list of Groups which this Group Finder has identified as being contained within the given structure
+     */
+    public List<Group<?>> findGroups(Map<Atom, List<Bond>> structure, StructureIndex index) {
+        return findGroups(structure);
+    };
+
     /**
      * A convenience method that gives all {@link Atom Atoms} of the given {@link Element} {@link Bonded bonded} (with any {@link Bond.BondType type}) to the given Atom in the given structure.
      * @param structure A Map of Atoms in a {@link Molecule} to all Bonds that Atom has (see the {@code structure} property of {@link Formula})
@@ -1,16 +1,15 @@
 package com.petrolpark.destroy.chemistry;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.function.Predicate;
-
-import javax.annotation.Nullable;
-
 import java.util.Set;
 
 import com.google.common.collect.ImmutableList;
@@ -22,34 +21,59 @@ import com.petrolpark.destroy.chemistry.genericreaction.GenericReaction;
 import com.petrolpark.destroy.chemistry.genericreaction.SingleGroupGenericReaction;
 import com.petrolpark.destroy.chemistry.index.DestroyMolecules;
 import com.petrolpark.destroy.recipe.ReactionInBasinRecipe.ReactionInBasinResult;
-import com.simibubi.create.foundation.utility.NBTHelper;
 import com.simibubi.create.foundation.utility.Pair;
 
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.item.ItemStack;
 
 public class Mixture extends ReadOnlyMixture {
 
     protected static final int TICKS_PER_SECOND = 20;
 
+    /**
+     * The most ticks a single step of the {@link Mixture#reactForTicks adaptive integrator} may cover.
+     */
+    protected static final int MAX_ADAPTIVE_STEP = 64;
+
+    /**
+     * The largest relative error in the concentration of any {@link Molecule} which a step of the {@link Mixture#reactForTicks adaptive integrator} may have.
+     */
+    protected static final float ADAPTIVE_STEP_TOLERANCE = 0.01f;
+
     /**
      * A Map of all {@link ReactionResult Results} of {@link Reaction Reactions} generated in this Mixture, mapped
      * to their 'concentrations' (moles of the Reaction which have occured per Bucket of this Mixture, since the last
      * instance of that Reaction Result was dealt with).
      */
     protected Map<ReactionResult, Float> reactionResults;
-    /**
-     * {@link Molecule Molecules} which do not have a name space or ID.
-     */
-    protected List<Molecule> novelMolecules;
 
     /**
      * All {@link Reaction Reactions} with specific Reactants and specified {@link GenericReaction Generic Reactions}
      * which are possible given the {@link Molecule Molecules} in this Mixture.
      */
-    protected List<Reaction> possibleReactions;
+    protected Set<Reaction> possibleReactions;
+
+    /**
+     * Every {@link Reaction} which is being considered for this Mixture, whether or not it is currently {@link Mixture#possibleReactions possible}.
+     * These are the Reactions with at least one Reactant in this Mixture, and Reactions {@link GenericReaction generated} from {@link Molecule Molecules} in this Mixture.
+     * Each is mapped to the number of Molecules in this Mixture because of which it is being considered, so it can be forgotten once there are none left.
+     */
+    protected Map<Reaction, Integer> candidateReactions;
+
+    /**
+     * Reactions {@link GenericReaction generated} for this Mixture, indexed by each {@link Molecule} whose {@link Group functional Group} was used to generate them.
+     * These get forgotten as soon as any of those Molecules is removed.
+     */
+    protected Map<Molecule, Set<Reaction>> generatedReactions;
+
+    /**
+     * {@link Mixture#candidateReactions Candidate Reactions} indexed by every {@link Molecule} which must be present for them to be possible (their Reactants and catalysts).
+     * This means when a Molecule is added or removed, only the Reactions which depend on it need to be checked.
+     */
+    protected Map<Molecule, Set<Reaction>> dependentReactions;
 
     /**
      * Every {@link Molecule} in this Mixture that has a {@link Group functional Group}, indexed by the {@link Group#getType Type} of that Group.
@@ -58,6 +82,42 @@ public class Mixture extends ReadOnlyMixture {
      */
     protected Map<GroupType<?>, List<GenericReactant<?>>> groupIDsAndMolecules;
 
+    /**
+     * Every {@link Molecule} involved in a {@link Mixture#possibleReactions possible Reaction}, in the order of the slot it has been given.
+     * While {@link Mixture#reactForTick reacting}, the concentration of each of these Molecules is held in the same slot of a plain array rather than being looked up in
+     * {@link ReadOnlyMixture#contents the contents}, so dozens of Reactions between dozens of Molecules can be simulated without hashing or boxing anything.
+     */
+    protected List<Molecule> slotMolecules;
+
+    /**
+     * The slot of each {@link Mixture#slotMolecules Molecule which has one}.
+     */
+    protected Map<Molecule, Integer> slots;
+
+    /**
+     * {@link Mixture#possibleReactions Possible Reactions}, with all their Reactants, products and orders converted to {@link Mixture#slots slots}.
+     * These are rebuilt whenever a {@link Molecule} is added to or removed from this Mixture, which is much rarer than reacting.
+     */
+    protected List<CompiledReaction> compiledReactions;
+
+    /**
+     * Whether the {@link Mixture#compiledReactions compiled Reactions} are out of date.
+     */
+    private boolean compiledReactionsOutOfDate;
+
+    // Working space for reactForTick, kept between ticks so it isn't reallocated every time
+    private float[] slotConcentrations;
+    private float[] oldSlotConcentrations;
+    private float[] compiledReactionRates;
+    private int[] orderedCompiledReactions;
+
+    // Working space for reactForTicks, indexed by slot or by compiled Reaction like the above
+    private float[] stepConcentrations;
+    private float[] initialRatesOfChange;
+    private float[] finalRatesOfChange;
+    private float[] finalCompiledReactionRates;
+    private int[] activeCompiledReactions;
+
     /**
      * Whether this Mixture has reached equilibrium. This means either:
      * <ul>
@@ -67,6 +127,30 @@ public class Mixture extends ReadOnlyMixture {
      */
     protected boolean equilibrium;
 
+    /**
+     * The biggest fractional change in the concentration of any {@link Molecule} per tick, the last time this Mixture {@link Mixture#reactForTick reacted}.
+     * A Molecule which appeared from nothing counts as a change of {@code 1}. This is used to decide how often slowly-reacting Mixtures need simulating.
+     */
+    protected float largestRelativeChange;
+
+    /**
+     * Whether {@link Mixture#readMolecule reading} a {@link Molecule} into this Mixture should work out the {@link Reaction Reactions} it makes possible.
+     * This is only turned off for Mixtures which are read just to be {@link Accumulator#add(CompoundTag, double) added to an Accumulator}, and never react.
+     */
+    private boolean indexReactionsOnRead;
+
+    /**
+     * The total {@link Molecule#getMolarHeatCapacity heat capacity} of everything in one bucket of this Mixture, in joules per kelvin.
+     * Rather than adding this up every time this Mixture is {@link Mixture#heat heated}, it is kept up to date as concentrations change.
+     */
+    protected float volumetricHeatCapacity;
+
+    /**
+     * Every {@link Molecule} in this Mixture, in ascending order of boiling point, so the {@link Mixture#updateNextBoilingPoints next boiling points}
+     * can be found with a binary search rather than by looking through every Molecule.
+     */
+    protected List<Molecule> moleculesByBoilingPoint;
+
     /**
      * The Molecule which has the boiling point which is closest to the current temperature of the Mixture, but higher.
      * Either value may be {@code null}.
@@ -84,15 +168,34 @@ public class Mixture extends ReadOnlyMixture {
 
         reactionResults = new HashMap<>();
 
-        novelMolecules = new ArrayList<>();
-
-        possibleReactions = new ArrayList<>();
+        possibleReactions = new LinkedHashSet<>();
+        candidateReactions = new HashMap<>();
+        generatedReactions = new HashMap<>();
+        dependentReactions = new HashMap<>();
         groupIDsAndMolecules = new HashMap<>();
 
+        slotMolecules = new ArrayList<>();
+        slots = new HashMap<>();
+        compiledReactions = new ArrayList<>();
+        compiledReactionsOutOfDate = false;
+        slotConcentrations = new float[0];
+        oldSlotConcentrations = new float[0];
+        compiledReactionRates = new float[0];
+        orderedCompiledReactions = new int[0];
+        stepConcentrations = new float[0];
+        initialRatesOfChange = new float[0];
+        finalRatesOfChange = new float[0];
+        finalCompiledReactionRates = new float[0];
+        activeCompiledReactions = new int[0];
+
+        volumetricHeatCapacity = 0f;
+        moleculesByBoilingPoint = new ArrayList<>();
         nextHigherBoilingPoint = Pair.of(Float.MAX_VALUE, null);
         nextLowerBoilingPoint = Pair.of(0f, null);
 
         equilibrium = false;
+        largestRelativeChange = 1f; // Until this Mixture has reacted, assume it is changing quickly
+        indexReactionsOnRead = true;
     };
 
     /**
@@ -122,52 +225,68 @@ public class Mixture extends ReadOnlyMixture {
             return mixture;
         };
 
-        mixture.translationKey = compound.getString("TranslationKey"); // Set to "" if the key is not present
+        mixture.read(compound);
+
+        mixture.updateName();
+        mixture.updateColor();
+        mixture.updateNextBoilingPoints();
 
-        if (compound.contains("Temperature")) mixture.temperature = compound.getFloat("Temperature");
+        return mixture;
+    };
 
-        ListTag contents = compound.getList("Contents", Tag.TAG_COMPOUND);
-        contents.forEach(tag -> {
-            CompoundTag moleculeTag = (CompoundTag) tag;
-            Molecule molecule = Molecule.getMolecule(moleculeTag.getString("Molecule"));
-            mixture.internalAddMolecule(molecule, moleculeTag.getFloat("Concentration"), false);
-            mixture.states.put(molecule, moleculeTag.getFloat("Gaseous"));
-        });
+    @Override
+    protected void writeCompact(FriendlyByteBuf buffer) {
+        super.writeCompact(buffer);
+        buffer.writeBoolean(equilibrium);
+        List<Entry<ReactionResult, Float>> results = new ArrayList<>(reactionResults.entrySet());
+        results.sort(Comparator.comparing(entry -> entry.getKey().getReaction().getFullId())); // Sort so identical Mixtures have identical encodings
+        buffer.writeVarInt(results.size());
+        for (Entry<ReactionResult, Float> entry : results) {
+            buffer.writeUtf(entry.getKey().getReaction().getFullId());
+            buffer.writeFloat(entry.getValue());
+        };
+    };
 
-        mixture.equilibrium = compound.getBoolean("AtEquilibrium");
+    @Override
+    protected void readCompact(FriendlyByteBuf buffer) {
+        super.readCompact(buffer);
+        equilibrium = buffer.readBoolean();
+        int results = buffer.readVarInt();
+        for (int i = 0; i < results; i++) {
+            readResult(buffer.readUtf(), buffer.readFloat());
+        };
+    };
 
+    @Override
+    protected void readLegacy(CompoundTag compound) {
+        super.readLegacy(compound);
+        equilibrium = compound.getBoolean("AtEquilibrium");
         if (compound.contains("Results", Tag.TAG_LIST)) {
             ListTag results = compound.getList("Results", Tag.TAG_COMPOUND);
             results.forEach(tag -> {
                 CompoundTag resultTag = (CompoundTag) tag;
-                ReactionResult result = Reaction.get(resultTag.getString("Result")).getResult();
-                if (result == null) return;
-                mixture.reactionResults.put(result, resultTag.getFloat("MolesPerBucket"));
+                readResult(resultTag.getString("Result"), resultTag.getFloat("MolesPerBucket"));
             });
         };
-
-        mixture.updateName();
-        mixture.updateColor();
-        mixture.refreshPossibleReactions();
-        mixture.updateNextBoilingPoints();
-
-        return mixture;
     };
 
     @Override
-    public CompoundTag writeNBT() {
-        CompoundTag tag = super.writeNBT();
-        tag.putBoolean("AtEquilibrium", equilibrium);
-
-        if (!reactionResults.isEmpty()) {
-            tag.put("Results", NBTHelper.writeCompoundList(reactionResults.entrySet(), entry -> {
-                CompoundTag resultTag = new CompoundTag();
-                resultTag.putString("Result", entry.getKey().getReaction().getFullId());
-                resultTag.putFloat("MolesPerBucket", entry.getValue());
-                return resultTag;
-            }));
-        };
-        return tag;
+    protected void readMolecule(Molecule molecule, float concentration, float gaseous) {
+        if (molecule == null) return;
+        if (indexReactionsOnRead) {
+            internalAddMolecule(molecule, concentration);
+        } else {
+            contents.put(molecule, concentration);
+        };
+        states.put(molecule, gaseous);
+    };
+
+    private void readResult(String reactionId, float molesPerBucket) {
+        Reaction reaction = Reaction.get(reactionId);
+        if (reaction == null) return;
+        ReactionResult result = reaction.getResult();
+        if (result == null) return;
+        reactionResults.put(result, molesPerBucket);
     };
 
     /**
@@ -198,14 +317,14 @@ public class Mixture extends ReadOnlyMixture {
     public Mixture addMolecule(Molecule molecule, float concentration) {
 
         if (getConcentrationOf(molecule) > 0f) { // If we already have this Molecule
-            changeConcentrationOf(molecule, concentration, true);
+            changeConcentrationOf(molecule, concentration);
             updateName();
             updateColor();
             return this;
         };
 
         // If we're not adding a pre-existing Molecule
-        internalAddMolecule(molecule, concentration, true);
+        internalAddMolecule(molecule, concentration);
         equilibrium = false;
         return this;
     };
@@ -214,54 +333,38 @@ public class Mixture extends ReadOnlyMixture {
      * Creates a new Mixture by mixing together existing ones. This does not give the volume of the new Mixture.
      * @param mixtures A Map of all Mixtures to their volumes (in Buckets)
      * @return A new Mixture instance
+     * @see Mixture#mixInto Mixing into the largest Mixture instead, which is quicker if nothing new is being added
      */
     public static Mixture mix(Map<Mixture, Double> mixtures) {
         if (mixtures.size() == 0) return new Mixture();
         if (mixtures.size() == 1) return mixtures.keySet().iterator().next();
-        Mixture resultMixture = new Mixture();
-        Map<Molecule, Double> moleculesAndMoles = new HashMap<>(); // A Map of all Molecules to their quantity in moles (not their concentration)
-        Map<ReactionResult, Double> reactionResultsAndMoles = new HashMap<>(); // A Map of all Reaction Results to their quantity in moles
-        double totalAmount = 0d;
-        float totalEnergy = 0f;
-
+        Accumulator accumulator = new Accumulator();
         for (Entry<Mixture, Double> mixtureAndAmount : mixtures.entrySet()) {
-            Mixture mixture = mixtureAndAmount.getKey();
-            double amount = mixtureAndAmount.getValue();
-            totalAmount += amount;
-
-            for (Entry<Molecule, Float> entry : mixture.contents.entrySet()) {
-                Molecule molecule = entry.getKey();
-                float concentration = entry.getValue();
-                moleculesAndMoles.merge(molecule, concentration * amount, (m1, m2) -> m1 + m2); // Add the Molecule to the map if it's a new one, or increase the existing molar quantity otherwise
-                totalEnergy += molecule.getMolarHeatCapacity() * concentration * mixture.temperature * amount; // Add all the energy that would be required to raise this Molecule from 0K to its current temperature
-                totalEnergy += molecule.getLatentHeat() * concentration * mixture.states.get(molecule) * amount; // Add all the energy that would be required to vaporise this Molecule, if necessary
-            };
-
-            for (Entry<ReactionResult, Float> entry : mixture.reactionResults.entrySet()) {
-                reactionResultsAndMoles.merge(entry.getKey(), entry.getValue() * amount, (r1, r2) -> r1 + r2); // Same for Reaction Results
-            };
+            accumulator.add(mixtureAndAmount.getKey(), mixtureAndAmount.getValue());
         };
+        return accumulator.mix();
+    };
 
-        for (Entry<Molecule, Double> moleculeAndMoles : moleculesAndMoles.entrySet()) {
-            Molecule molecule = moleculeAndMoles.getKey();
-            resultMixture.internalAddMolecule(molecule, (float)(moleculeAndMoles.getValue() / totalAmount), false); // Add all these Molecules to the new Mixture
-            resultMixture.states.put(molecule, 0f); // Set it to entirely liquid as we will soon be reheating the Mixture from 0K
+    /**
+     * Mixes together existing Mixtures, by {@link Accumulator#mixInto mixing} the others into the largest one. This does not give the volume of the new Mixture.
+     * <p>If the others don't contain anything new (for example when topping up a Vat), none of the {@link Mixture#possibleReactions possible Reactions} of the
+     * largest Mixture need working out again. This means <strong>the largest Mixture may be changed and returned</strong>, so only use this if none of the Mixtures
+     * passed in are used afterwards, and use {@link Mixture#mix} otherwise.</p>
+     * @param mixtures A Map of all Mixtures to their volumes (in Buckets)
+     * @return The mixed Mixture
+     */
+    public static Mixture mixInto(Map<Mixture, Double> mixtures) {
+        if (mixtures.size() == 0) return new Mixture();
+        if (mixtures.size() == 1) return mixtures.keySet().iterator().next();
+        Entry<Mixture, Double> largestMixtureAndAmount = null;
+        for (Entry<Mixture, Double> mixtureAndAmount : mixtures.entrySet()) {
+            if (largestMixtureAndAmount == null || mixtureAndAmount.getValue() > largestMixtureAndAmount.getValue()) largestMixtureAndAmount = mixtureAndAmount;
         };
-
-        for (Entry<ReactionResult, Double> reactionResultAndMoles : reactionResultsAndMoles.entrySet()) {
-            resultMixture.incrementReactionResults(reactionResultAndMoles.getKey().getReaction(), (float)(reactionResultAndMoles.getValue() / totalAmount)); // Add all Reaction Results to the new Mixture
+        Accumulator accumulator = new Accumulator();
+        for (Entry<Mixture, Double> mixtureAndAmount : mixtures.entrySet()) {
+            if (mixtureAndAmount != largestMixtureAndAmount) accumulator.add(mixtureAndAmount.getKey(), mixtureAndAmount.getValue());
         };
-
-        resultMixture.temperature = 0f; // Initially set the temperature of the new Mixture to 0K
-        resultMixture.updateNextBoilingPoints();
-        resultMixture.heat(totalEnergy / (float)totalAmount); // Now heat it up with the total internal energy of all component Mixtures
-
-        resultMixture.refreshPossibleReactions();
-        resultMixture.updateName();
-        resultMixture.updateColor();
-        resultMixture.updateNextBoilingPoints();
-
-        return resultMixture;
+        return accumulator.mixInto(largestMixtureAndAmount.getKey(), largestMixtureAndAmount.getValue());
     };
 
     @Override
@@ -269,49 +372,6 @@ public class Mixture extends ReadOnlyMixture {
         return super.getConcentrationOf(molecule);
     };
 
-    /**
-     * Checks that this Mixture contains a suitable concentration of the given {@link Molecule}, and that all other substances present are solvents or low-concentration impurities.
-     * This is used in Recipes.
-     * @param molecule Only known (non-novel) Molecules (i.e. those with a name space) will be detected
-     * @param concentration
-     * @param ignoreableMolecules Molecules other than solvents and low-concentration impurities that should be ignored should return {@code true}. The predicate can be {@code null} if there are no other Molecules that can be ignored
-     */
-    public boolean hasUsableMolecule(Molecule molecule, float concentration, @Nullable Predicate<Molecule> ignore) {
-        if (!contents.containsKey(molecule)) return false;
-        if (ignore == null) ignore = (m) -> false;
-        if (Math.abs(concentration - getConcentrationOf(molecule)) > IMPURITY_THRESHOLD) return false; //TODO replace with a more lenient check
-        for (Entry<Molecule, Float> otherMolecule : contents.entrySet()) {
-            if (ignore.test(otherMolecule.getKey())) continue; // If this molecule is specified as ignoreable, ignore it
-            if (otherMolecule.getKey() == molecule) continue; // If this is the Molecule we want, ignore it.
-            if (otherMolecule.getKey().hasTag(DestroyMolecules.Tags.SOLVENT)) continue; // If this is a solvent, ignore it
-            if (otherMolecule.getValue() < IMPURITY_THRESHOLD) continue; // If this impurity is in low-enough concentration, ignore it.
-            return false;
-        };
-        return true;
-    };
-
-    /**
-     * Checks that this Mixture contains a suitable concentration of {@link Molecule Molecules} with the given {@link MoleculeTag}, and that all other substances present are solvents
-     * or low-concentration impurities. This is used in Recipes.
-     * @param tag
-     * @param concentration
-     * @param ignore Molecules other than solvents and low-concentration impurities that should be ignored should return {@code true}. The predicate can be {@code null} if there are no other Molecules that can be ignored
-     */
-    public boolean hasUsableTaggedMolecules(MoleculeTag tag, float concentration, @Nullable Predicate<Molecule> ignore) {
-        if (ignore == null) ignore = (m) -> false;
-        float combinedConcentration = 0f;
-        for (Entry<Molecule, Float> entry : contents.entrySet()) {
-            if (ignore.test(entry.getKey())) continue; // If this Molecule is specified as ignoreable, ignore it.
-            if (entry.getKey().hasTag(tag)) {
-                combinedConcentration += entry.getValue(); // If this has the Tag, add it to the total
-                continue; // Then move on
-            };
-            if (entry.getKey().hasTag(DestroyMolecules.Tags.SOLVENT)) continue; // If this is a solvent, ignore it
-            if (entry.getValue() > IMPURITY_THRESHOLD) return false; // If this illegal impurity is in high-enough concentration, this Mixture is unsuitable
-        };
-        return (Math.abs(combinedConcentration - concentration) < IMPURITY_THRESHOLD); //TODO replace with a more lenient check
-    };
-
     /**
      * Whether this Mixture will {@link Mixture#equilibrium react any further}.
      */
@@ -324,6 +384,16 @@ public class Mixture extends ReadOnlyMixture {
      */
     public void disturbEquilibrium() {
         equilibrium = false;
+        largestRelativeChange = 1f;
+    };
+
+    /**
+     * The {@link Mixture#largestRelativeChange biggest fractional change} in concentration of any {@link Molecule} per tick when this Mixture last reacted.
+     * @return {@code 0} if this Mixture is at {@link Mixture#equilibrium equilibrium}
+     */
+    public float getLargestRelativeChange() {
+        if (equilibrium) return 0f;
+        return largestRelativeChange;
     };
 
     /**
@@ -335,66 +405,313 @@ public class Mixture extends ReadOnlyMixture {
         if (equilibrium) return; // If we have already reached equilibrium, nothing more is going to happen, so don't bother reacting
 
         equilibrium = true; // Start by assuming we have reached equilibrium
-        boolean shouldRefreshPossibleReactions = false; // Rather than refreshing the possible Reactions every time a new Molecule is added or removed, start by assuming we won't need to, and flag for refreshing if we ever do
 
-        Map<Molecule, Float> oldContents = new HashMap<>(contents); // Copy all the old concentrations of everything
+        if (compiledReactionsOutOfDate) compileReactions();
 
-        Map<Reaction, Float> reactionRates = new HashMap<>(); // Rates of all Reactions
-        List<Reaction> orderedReactions = new ArrayList<>(); // A list of Reactions in the order of their current rate, fastest first
-
-        orderEachReaction: for (Reaction possibleReaction : possibleReactions) {
-            if (possibleReaction.consumesItem()) continue orderEachReaction; // Don't include Reactions which CONSUME Items at this stage
+        // Copy the concentrations of everything which might react into their slots
+        int slotCount = slotMolecules.size();
+        for (int slot = 0; slot < slotCount; slot++) {
+            float concentration = getConcentrationOf(slotMolecules.get(slot));
+            slotConcentrations[slot] = concentration;
+            oldSlotConcentrations[slot] = concentration;
+        };
 
-            for (IItemReactant itemReactant : possibleReaction.getItemReactants()) { // Check all Reactions have the necessary Item catalysts
-                boolean validStackFound = false; // Start by assuming we won't have the required Item Stack...
-                checkAllItems: for (ItemStack stack : context.availableItemStacks) {
-                    if (itemReactant.isItemValid(stack)) {
-                        validStackFound = true; // ...If we do, correct this assumption
-                        break checkAllItems;
-                    };
-                };
-                if (!validStackFound) continue orderEachReaction; // If we don't have the requesite Item Stacks, don't do this Reaction
+        // Calculate the rates of all Reactions and sort them by rate
+        int reactionCount = 0;
+        orderEachReaction: for (int i = 0; i < compiledReactions.size(); i++) {
+            CompiledReaction compiledReaction = compiledReactions.get(i);
+            if (!hasItemCatalysts(compiledReaction.reaction, context)) continue orderEachReaction; // If we don't have the requesite Item Stacks, don't do this Reaction
+            float rate = compiledReaction.calculateRate(context); // Calculate the Reaction data for this tick
+            compiledReactionRates[i] = rate;
+
+            int position = reactionCount; // Insert this Reaction into the (so far sorted) order, after any Reactions with the same rate
+            while (position > 0 && compiledReactionRates[orderedCompiledReactions[position - 1]] > rate) {
+                orderedCompiledReactions[position] = orderedCompiledReactions[position - 1];
+                position--;
             };
-
-            reactionRates.put(possibleReaction, calculateReactionRate(possibleReaction, context)); // Calculate the Reaction data for this tick
-            orderedReactions.add(possibleReaction); // Add the Reaction to the rate-ordered list, which is currently not sorted
+            orderedCompiledReactions[position] = i;
+            reactionCount++;
         };
 
-        Collections.sort(orderedReactions, (r1, r2) -> reactionRates.get(r1).compareTo(reactionRates.get(r2))); // Sort the Reactions by rate
+        float energyDensity = 0f; // Energy released by all the Reactions in this tick
 
-        doEachReaction: for (Reaction reaction : orderedReactions) { // Go through each Reaction, fastest first
+        doEachReaction: for (int i = 0; i < reactionCount; i++) { // Go through each Reaction
+            CompiledReaction compiledReaction = compiledReactions.get(orderedCompiledReactions[i]);
 
-            Float molesOfReaction = reactionRates.get(reaction); // We are reacting over one tick, so moles of Reaction that take place in this time = rate of Reaction in M per tick
+            float molesOfReaction = compiledReactionRates[orderedCompiledReactions[i]]; // We are reacting over one tick, so moles of Reaction that take place in this time = rate of Reaction in M per tick
 
-            for (Molecule reactant : reaction.getReactants()) {
-                int reactantMolarRatio = reaction.getReactantMolarRatio(reactant);
-                float reactantConcentration = getConcentrationOf(reactant);
+            for (int j = 0; j < compiledReaction.reactantSlots.length; j++) {
+                int reactantMolarRatio = compiledReaction.reactantMolarRatios[j];
+                float reactantConcentration = slotConcentrations[compiledReaction.reactantSlots[j]];
                 if (reactantConcentration < reactantMolarRatio * molesOfReaction) { // Determine the limiting reagent, if there is one
                     molesOfReaction = reactantConcentration / (float) reactantMolarRatio; // If there is a new limiting reagent, alter the moles of reaction which will take place
-                    shouldRefreshPossibleReactions = true; // If there is a new limiting reagent, one Molecule is going to be used up, so the possible Reactions will change
                 };
             };
 
             if (molesOfReaction <= 0f) continue doEachReaction; // Don't bother going any further if this Reaction won't happen
 
-            shouldRefreshPossibleReactions |= doReaction(reaction, molesOfReaction); // Increment the amount of this Reaction which has occured, add all products and remove all reactants
+            // Remove all reactants and add all products
+            for (int j = 0; j < compiledReaction.reactantSlots.length; j++) {
+                slotConcentrations[compiledReaction.reactantSlots[j]] -= molesOfReaction * compiledReaction.reactantMolarRatios[j];
+            };
+            for (int j = 0; j < compiledReaction.productSlots.length; j++) {
+                slotConcentrations[compiledReaction.productSlots[j]] += molesOfReaction * compiledReaction.productMolarRatios[j];
+            };
+
+            energyDensity -= compiledReaction.reaction.getEnthalpyChange() * 1000 * molesOfReaction;
+            incrementReactionResults(compiledReaction.reaction, molesOfReaction); // Increment the amount of this Reaction which has occured
         };
 
         // Check now if we have actually reached equilibrium or if that was a false assumption at the start
-        for (Molecule molecule : oldContents.keySet()) {
-            if (!areVeryClose(oldContents.get(molecule), getConcentrationOf(molecule))) { // If there's something that has changed concentration noticeably in this tick...
-                equilibrium = false; // ...we cannot have reached equilibrium
+        boolean changed = false;
+        largestRelativeChange = 0f;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (oldSlotConcentrations[slot] != 0f) {
+                if (!areVeryClose(oldSlotConcentrations[slot], slotConcentrations[slot])) changed = true; // If there's something that has changed concentration noticeably in this tick, we cannot have reached equilibrium
+                largestRelativeChange = Math.max(largestRelativeChange, Math.abs(slotConcentrations[slot] - oldSlotConcentrations[slot]) / oldSlotConcentrations[slot]);
+            } else if (slotConcentrations[slot] > 0f) {
+                largestRelativeChange = 1f; // Something new has been made
             };
         };
 
-        if (shouldRefreshPossibleReactions) { // If we added a new Molecule or removed an old one at any point
-            refreshPossibleReactions();
+        // Copy the new concentrations back, first of Molecules which were already there (so novel Molecules are only matched up once these are correct)...
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (oldSlotConcentrations[slot] == 0f || slotConcentrations[slot] == oldSlotConcentrations[slot]) continue;
+            Molecule molecule = slotMolecules.get(slot);
+            if (slotConcentrations[slot] <= 0f) {
+                removeMolecule(molecule);
+            } else {
+                volumetricHeatCapacity += molecule.getMolarHeatCapacity() * (slotConcentrations[slot] - oldSlotConcentrations[slot]);
+                contents.replace(molecule, slotConcentrations[slot]);
+            };
+        };
+        // ...and then of Molecules which are new
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (oldSlotConcentrations[slot] == 0f && slotConcentrations[slot] > 0f) internalAddMolecule(slotMolecules.get(slot), slotConcentrations[slot]);
         };
 
+        if (changed) equilibrium = false;
+        if (energyDensity != 0f) heat(energyDensity);
+
         updateName();
         updateColor();
     };
 
+    /**
+     * Whether all the Item Stacks which catalyze the given {@link Reaction} are available.
+     * @param reaction
+     * @param context
+     */
+    private boolean hasItemCatalysts(Reaction reaction, ReactionContext context) {
+        for (IItemReactant itemReactant : reaction.getItemReactants()) { // Check the Reaction has the necessary Item catalysts
+            boolean validStackFound = false; // Start by assuming we won't have the required Item Stack...
+            checkAllItems: for (ItemStack stack : context.availableItemStacks) {
+                if (itemReactant.isItemValid(stack)) {
+                    validStackFound = true; // ...If we do, correct this assumption
+                    break checkAllItems;
+                };
+            };
+            if (!validStackFound) return false;
+        };
+        return true;
+    };
+
+    /**
+     * Rebuild the {@link Mixture#compiledReactions compiled Reactions} and {@link Mixture#slots slots} from the current {@link Mixture#possibleReactions possible Reactions},
+     * making sure the working space for {@link Mixture#reactForTick reacting} is big enough.
+     */
+    private void compileReactions() {
+        slotMolecules.clear();
+        slots.clear();
+        compiledReactions.clear();
+
+        for (Reaction reaction : possibleReactions) {
+            if (reaction.consumesItem()) continue; // Reactions which CONSUME Items are only dealt with when dissolving Items
+            compiledReactions.add(new CompiledReaction(reaction));
+        };
+
+        if (slotConcentrations.length < slotMolecules.size()) {
+            slotConcentrations = new float[slotMolecules.size()];
+            oldSlotConcentrations = new float[slotMolecules.size()];
+            stepConcentrations = new float[slotMolecules.size()];
+            initialRatesOfChange = new float[slotMolecules.size()];
+            finalRatesOfChange = new float[slotMolecules.size()];
+        };
+        if (compiledReactionRates.length < compiledReactions.size()) {
+            compiledReactionRates = new float[compiledReactions.size()];
+            orderedCompiledReactions = new int[compiledReactions.size()];
+            finalCompiledReactionRates = new float[compiledReactions.size()];
+            activeCompiledReactions = new int[compiledReactions.size()];
+        };
+
+        compiledReactionsOutOfDate = false;
+    };
+
+    /**
+     * Get the {@link Mixture#slots slot} of the given {@link Molecule}, giving it a new one if it doesn't have one yet.
+     * @param molecule
+     */
+    private int getSlot(Molecule molecule) {
+        return slots.computeIfAbsent(molecule, m -> {
+            slotMolecules.add(m);
+            return slotMolecules.size() - 1;
+        });
+    };
+
+    /**
+     * Reacts the contents of this Mixture for up to the given number of ticks at once, stopping early if it reaches {@link Mixture#equilibrium equilibrium}.
+     * Rather than {@link Mixture#reactForTick reacting one tick at a time}, this takes steps spanning as many ticks as the Reactions allow.
+     * <p>Each step is a Heun (improved Euler) step, whose error is estimated by comparing it to the plain Euler step over the same time.
+     * If the error is too large the step is retried with half the size, and if it is very small the next step is twice the size, so Mixtures
+     * with both very fast Reactions (which are usually near equilibrium) and very slow Reactions don't have to crawl along one tick at a time.
+     * If a step would use up a Reactant entirely or make a new product, a {@link Mixture#reactForTick single tick} is taken instead, as that deals with limiting reagents.</p>
+     * <p>The Mixture is considered to be at equilibrium once no {@link Molecule} is changing concentration noticeably per tick, which is worked out from the rates
+     * of the Reactions rather than by comparing concentrations before and after a tick.</p>
+     * @param context
+     * @param maxTicks
+     * @return The number of ticks which were simulated, which is less than {@code maxTicks} only if equilibrium was reached
+     */
+    public int reactForTicks(ReactionContext context, int maxTicks) {
+        int ticks = 0;
+        int stepSize = 1;
+
+        boolean indexed = false; // Whether the slots and active Reactions below are up to date
+        int slotCount = 0;
+        int reactionCount = 0;
+
+        while (ticks < maxTicks && !equilibrium) {
+            stepSize = Math.min(stepSize, maxTicks - ticks);
+
+            // Give every Molecule a slot and pick out the Reactions which can happen - this only needs doing again if a single tick changed what is in this Mixture
+            if (!indexed) {
+                if (compiledReactionsOutOfDate) compileReactions();
+                slotCount = slotMolecules.size();
+                for (int slot = 0; slot < slotCount; slot++) slotConcentrations[slot] = getConcentrationOf(slotMolecules.get(slot));
+                reactionCount = 0;
+                for (int i = 0; i < compiledReactions.size(); i++) {
+                    if (hasItemCatalysts(compiledReactions.get(i).reaction, context)) activeCompiledReactions[reactionCount++] = i;
+                };
+                indexed = true;
+            };
+
+            calculateRatesOfChange(context, slotConcentrations, slotCount, reactionCount, compiledReactionRates, initialRatesOfChange);
+
+            // Check if we have already reached equilibrium
+            boolean changing = false;
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (!areVeryClose(initialRatesOfChange[slot], 0f)) {
+                    changing = true;
+                    break;
+                };
+            };
+            if (!changing) {
+                equilibrium = true;
+                break;
+            };
+
+            // Predict the concentrations at the end of the step with a plain Euler step
+            for (int slot = 0; slot < slotCount; slot++) stepConcentrations[slot] = slotConcentrations[slot] + initialRatesOfChange[slot] * stepSize;
+            if (!canTakeStep(slotCount)) { // If this step would use something up or make something new, just take one tick
+                reactForTick(context);
+                ticks++;
+                stepSize = 1;
+                indexed = false;
+                continue;
+            };
+
+            // Correct the prediction with the rates at the end of the step
+            calculateRatesOfChange(context, stepConcentrations, slotCount, reactionCount, finalCompiledReactionRates, finalRatesOfChange);
+
+            // Estimate the error by comparing the Euler and Heun steps
+            float error = 0f;
+            for (int slot = 0; slot < slotCount; slot++) {
+                float difference = Math.abs(finalRatesOfChange[slot] - initialRatesOfChange[slot]) * stepSize / 2f;
+                error = Math.max(error, difference / Math.max(slotConcentrations[slot], 0.0001f));
+            };
+            if (error > ADAPTIVE_STEP_TOLERANCE && stepSize > 1) { // If the step was too big, try again with a smaller one
+                stepSize /= 2;
+                continue;
+            };
+
+            // Take the step
+            for (int slot = 0; slot < slotCount; slot++) stepConcentrations[slot] = slotConcentrations[slot] + stepSize * (initialRatesOfChange[slot] + finalRatesOfChange[slot]) / 2f;
+            if (!canTakeStep(slotCount)) {
+                reactForTick(context);
+                ticks++;
+                stepSize = 1;
+                indexed = false;
+                continue;
+            };
+            largestRelativeChange = 0f;
+            for (int slot = 0; slot < slotCount; slot++) {
+                float oldConcentration = slotConcentrations[slot];
+                float newConcentration = stepConcentrations[slot];
+                if (oldConcentration == newConcentration) continue;
+                Molecule molecule = slotMolecules.get(slot);
+                largestRelativeChange = Math.max(largestRelativeChange, Math.abs(newConcentration - oldConcentration) / oldConcentration / stepSize);
+                volumetricHeatCapacity += molecule.getMolarHeatCapacity() * (newConcentration - oldConcentration);
+                contents.replace(molecule, newConcentration);
+                slotConcentrations[slot] = newConcentration;
+            };
+            float energyDensity = 0f;
+            for (int i = 0; i < reactionCount; i++) {
+                int compiledReaction = activeCompiledReactions[i];
+                float molesOfReaction = stepSize * (compiledReactionRates[compiledReaction] + finalCompiledReactionRates[compiledReaction]) / 2f;
+                Reaction reaction = compiledReactions.get(compiledReaction).reaction;
+                energyDensity -= reaction.getEnthalpyChange() * 1000 * molesOfReaction;
+                incrementReactionResults(reaction, molesOfReaction);
+            };
+            if (energyDensity != 0f) heat(energyDensity);
+
+            ticks += stepSize;
+            if (error < ADAPTIVE_STEP_TOLERANCE / 4f) stepSize = Math.min(stepSize * 2, MAX_ADAPTIVE_STEP); // If the step was very accurate, try a bigger one next time
+        };
+
+        updateName();
+        updateColor();
+        return ticks;
+    };
+
+    /**
+     * Whether the concentrations in {@link Mixture#stepConcentrations} can be reached from those in {@link Mixture#slotConcentrations} in one
+     * {@link Mixture#reactForTicks adaptive step} - that is, whether no {@link Molecule} is used up and no new Molecule is made.
+     * @param slotCount
+     */
+    private boolean canTakeStep(int slotCount) {
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slotConcentrations[slot] <= 0f) {
+                if (stepConcentrations[slot] != 0f) return false; // Something new would be made
+            } else if (stepConcentrations[slot] <= 0f) {
+                return false; // Something would be used up
+            };
+        };
+        return true;
+    };
+
+    /**
+     * Work out how quickly each {@link Mixture#activeCompiledReactions active Reaction} proceeds and how quickly the concentration in each slot changes as a result, given the concentrations in each slot.
+     * @param context
+     * @param concentrations Concentration of the Molecule in each slot
+     * @param slotCount
+     * @param reactionCount The number of {@link Mixture#activeCompiledReactions active Reactions}
+     * @param reactionRates Filled with the rate of each compiled Reaction (in moles per Bucket per tick), by its index
+     * @param ratesOfChange Filled with the rate of change of the concentration in each slot
+     */
+    private void calculateRatesOfChange(ReactionContext context, float[] concentrations, int slotCount, int reactionCount, float[] reactionRates, float[] ratesOfChange) {
+        Arrays.fill(ratesOfChange, 0, slotCount, 0f);
+        for (int i = 0; i < reactionCount; i++) {
+            CompiledReaction compiledReaction = compiledReactions.get(activeCompiledReactions[i]);
+            float rate = compiledReaction.calculateRate(context, concentrations);
+            reactionRates[activeCompiledReactions[i]] = rate;
+            for (int j = 0; j < compiledReaction.reactantSlots.length; j++) {
+                ratesOfChange[compiledReaction.reactantSlots[j]] -= rate * compiledReaction.reactantMolarRatios[j];
+            };
+            for (int j = 0; j < compiledReaction.productSlots.length; j++) {
+                ratesOfChange[compiledReaction.productSlots[j]] += rate * compiledReaction.productMolarRatios[j];
+            };
+        };
+    };
+
     /**
      * Add or take heat from this Mixture. This will boil/condense Molecules and change the temperature.
      * @param energy In joules per bucket
@@ -472,7 +789,6 @@ public class Mixture extends ReadOnlyMixture {
     public void dissolveItems(ReactionContext context, double volume) {
         List<ItemStack> availableStacks = List.copyOf(context.availableItemStacks);
         if (availableStacks.isEmpty()) return;
-        boolean shouldRefreshReactions = false;
 
         List<Reaction> orderedReactions = new ArrayList<>();
 
@@ -483,7 +799,7 @@ public class Mixture extends ReadOnlyMixture {
 
         if (orderedReactions.isEmpty()) return; // Don't go any further if there aren't any items to dissolve
 
-        Collections.sort(possibleReactions, (r1, r2) -> ((Float)calculateReactionRate(r1, context)).compareTo(calculateReactionRate(r2, context))); // Order the list of Item-consuming Reactions by rate, in case multiple of them want the same Item
+        Collections.sort(orderedReactions, (r1, r2) -> ((Float)calculateReactionRate(r1, context)).compareTo(calculateReactionRate(r2, context))); // Order the list of Item-consuming Reactions by rate, in case multiple of them want the same Item
 
         tryEachReaction: for (Reaction reaction : orderedReactions) {
 
@@ -532,14 +848,12 @@ public class Mixture extends ReadOnlyMixture {
                 };
 
                 equilibrium = false;
-                shouldRefreshReactions |= doReaction(reaction, reaction.getMolesPerItem() / (float)volume); // Add all Molecular products and remove Molecular reactants
+                doReaction(reaction, reaction.getMolesPerItem() / (float)volume); // Add all Molecular products and remove Molecular reactants
             }
         };
 
         updateName();
         updateColor();
-        
-        if (shouldRefreshReactions) refreshPossibleReactions();
     };
 
     /**
@@ -566,6 +880,7 @@ public class Mixture extends ReadOnlyMixture {
         for (Entry<Molecule, Double> entry : molesOfMolecules.entrySet()) {
             contents.replace(entry.getKey(), (float)(entry.getValue() / newVolumeInBuckets));
         };
+        recalculateVolumetricHeatCapacity();
 
         // Results
         Map<ReactionResult, Float> resultsCopy = new HashMap<>(reactionResults);
@@ -582,6 +897,7 @@ public class Mixture extends ReadOnlyMixture {
      */
     public void scale(float volumeIncreaseFactor) {
         contents.replaceAll((molecule, concentration) -> concentration / volumeIncreaseFactor);
+        recalculateVolumetricHeatCapacity();
         reactionResults.replaceAll((reactionResult, molesPerBucket) -> molesPerBucket / volumeIncreaseFactor);
     };
 
@@ -625,13 +941,13 @@ public class Mixture extends ReadOnlyMixture {
         for (Entry<Molecule, Double> entry : liquidMoles.entrySet()) {
             double moles = entry.getValue();
             if (moles == 0d) continue;
-            liquidMixture.internalAddMolecule(entry.getKey(), (float)(moles / newLiquidVolume), false);
+            liquidMixture.internalAddMolecule(entry.getKey(), (float)(moles / newLiquidVolume));
             liquidMixture.states.put(entry.getKey(), 0f);
         };
         for (Entry<Molecule, Double> entry : gasMoles.entrySet()) {
             double moles = entry.getValue();
             if (moles == 0d) continue;
-            gasMixture.internalAddMolecule(entry.getKey(), (float)(moles / newGasVolume), false);
+            gasMixture.internalAddMolecule(entry.getKey(), (float)(moles / newGasVolume));
             gasMixture.states.put(entry.getKey(), 1f);
         };
 
@@ -644,46 +960,52 @@ public class Mixture extends ReadOnlyMixture {
 
         liquidMixture.temperature = temperature;
         gasMixture.temperature = temperature;
-        liquidMixture.refreshPossibleReactions();
-        gasMixture.refreshPossibleReactions();
         liquidMixture.equilibrium = equilibrium;
         gasMixture.equilibrium = equilibrium;
 
         return new Phases(gasMixture, newGasVolume, liquidMixture, newLiquidVolume);
     };
 
+    /**
+     * Get the total concentration of the gas which would fill the space left by the liquid if this Mixture's phases were {@link Mixture#separatePhases separated}.
+     * This is much quicker than actually separating them, and doesn't mutate this Mixture.
+     * @param initialVolume The initial volume of this Mixture, in the same units as for {@link Mixture#separatePhases}
+     * @return Concentration (in mol/B) of all gaseous Molecules together, or {@code 0} if there is no gas or no space for it
+     */
+    public float getGasConcentration(double initialVolume) {
+        double gasMoles = 0d;
+        double liquidVolume = 0d;
+        for (Entry<Molecule, Float> entry : contents.entrySet()) {
+            float proportionGaseous = states.get(entry.getKey());
+            gasMoles += entry.getValue() * proportionGaseous * initialVolume;
+            liquidVolume += entry.getValue() * (1f - proportionGaseous) * initialVolume / entry.getKey().getPureConcentration();
+        };
+        double gasVolume = initialVolume - liquidVolume;
+        if (gasMoles == 0d || gasVolume <= 0d) return 0f;
+        return (float)(gasMoles / gasVolume);
+    };
+
     /**
      * Increase the number of moles of Reaction which have occured, add all products, and remove all reactants.
      * @param reaction
      * @param molesPerBucket Moles (per Bucket) of Reaction
-     * @return Whether the possible Reactions for this Mixture should be updated
      */
-    protected boolean doReaction(Reaction reaction, float molesPerBucket) {
-
-        boolean shouldRefreshPossibleReactions = false;
+    protected void doReaction(Reaction reaction, float molesPerBucket) {
 
         for (Molecule reactant : reaction.getReactants()) {
-            changeConcentrationOf(reactant, - (molesPerBucket * reaction.getReactantMolarRatio(reactant)), false); // Use up the right amount of all the reagents
+            changeConcentrationOf(reactant, - (molesPerBucket * reaction.getReactantMolarRatio(reactant))); // Use up the right amount of all the reagents
         };
 
         addEachProduct: for (Molecule product : reaction.getProducts()) {
             if (product.isNovel() && getConcentrationOf(product) == 0f) { // If we have a novel Molecule that we don't think currently exists in the Mixture...
-                if (internalAddMolecule(product, molesPerBucket * reaction.getProductMolarRatio(product), false)) { // ...add it with this method, as this automatically checks for pre-existing novel Molecules, and if it was actually a brand new Molecule...
-                    shouldRefreshPossibleReactions = true; // ...flag this
-                }; 
+                internalAddMolecule(product, molesPerBucket * reaction.getProductMolarRatio(product)); // ...add it with this method, as this automatically checks for pre-existing novel Molecules
                 continue addEachProduct;
             };
-
-            if (getConcentrationOf(product) == 0f) { // If we are adding a new product, the possible Reactions will change
-                shouldRefreshPossibleReactions = true;
-            };
-            changeConcentrationOf(product, molesPerBucket * reaction.getProductMolarRatio(product), false); // Increase the concentration of the product
+            changeConcentrationOf(product, molesPerBucket * reaction.getProductMolarRatio(product)); // Increase the concentration of the product
         };
 
         heat(-reaction.getEnthalpyChange() * 1000 * molesPerBucket);
         incrementReactionResults(reaction, molesPerBucket);
-
-        return shouldRefreshPossibleReactions;
     };
 
     /**
@@ -705,21 +1027,27 @@ public class Mixture extends ReadOnlyMixture {
      * @param availableStacks Item Stacks available for reacting. This List and its contents will be modified.
      * @param heatingPower The power being supplied to this Basin by the {@link com.petrolpark.destroy.util.vat.IVatHeaterBlock heater} below it.
      * @param outsideTemperature The {@link com.petrolpark.destroy.capability.level.pollution.LevelPollution#getLocalTemperature temperature} outside the Basin.
+     * @param adaptive Whether to react many ticks at once with the {@link Mixture#reactForTicks adaptive integrator}, rather than one tick at a time
      */
-    public ReactionInBasinResult reactInBasin(int volume, List<ItemStack> availableStacks, float heatingPower, float outsideTemperature) {
+    public ReactionInBasinResult reactInBasin(int volume, List<ItemStack> availableStacks, float heatingPower, float outsideTemperature, boolean adaptive) {
         float volumeInBuckets = (float)volume / 1000f;
         int ticks = 0;
 
         ReactionContext context = new ReactionContext(availableStacks, 0f); 
         dissolveItems(context, volumeInBuckets); // Dissolve all Items
         while (!equilibrium && ticks < 600) { // React the Mixture
+            int ticksToHeat = adaptive ? Math.min(TICKS_PER_SECOND, 600 - ticks) : 1; // Don't go more than a second without updating the heating, as it depends on the temperature
             float energyChange = heatingPower / TICKS_PER_SECOND;
             energyChange += (outsideTemperature - temperature) * 100f / TICKS_PER_SECOND; // Fourier's Law (sort of), the Basin has a fixed conductance of 100 andthe divide by 20 is for 20 ticks per second
             if (Math.abs(energyChange) > 0.0001f) {
-                heat(1000 * energyChange / volume); // 1000 converts getFluidAmount() in mB to Buckets
+                heat(1000 * energyChange * ticksToHeat / volume); // 1000 converts getFluidAmount() in mB to Buckets
+            };
+            if (adaptive) {
+                ticks += Math.max(1, reactForTicks(context, ticksToHeat)); // Always count at least one tick, as the Items dissolving is a Reaction
+            } else {
+                reactForTick(context);
+                ticks++;
             };
-            reactForTick(context);
-            ticks++;
         };
 
         if (ticks == 0) return new ReactionInBasinResult(0, Map.of(), volume); // If no reactions occured (because we were already at equilibrium), cancel early
@@ -764,11 +1092,67 @@ public class Mixture extends ReadOnlyMixture {
      * Get the heat capacity (in joules per bucket-kelvin) of this Mixture.
      */
     public float getVolumetricHeatCapacity() {
+        return volumetricHeatCapacity;
+    };
+
+    /**
+     * Add up the {@link Mixture#volumetricHeatCapacity heat capacity} from scratch. This is only needed when every concentration changes at once.
+     */
+    protected void recalculateVolumetricHeatCapacity() {
         float totalHeatCapacity = 0f;
         for (Entry<Molecule, Float> entry : contents.entrySet()) {
             totalHeatCapacity += entry.getKey().getMolarHeatCapacity() * entry.getValue();
         };
-        return totalHeatCapacity;
+        volumetricHeatCapacity = totalHeatCapacity;
+    };
+
+    /**
+     * Include a {@link Molecule} which has just been added to this Mixture in the {@link Mixture#volumetricHeatCapacity heat capacity}
+     * and the {@link Mixture#moleculesByBoilingPoint boiling point order}.
+     * @param molecule
+     */
+    private void addToThermalState(Molecule molecule) {
+        volumetricHeatCapacity += molecule.getMolarHeatCapacity() * contents.get(molecule);
+        moleculesByBoilingPoint.add(getBoilingPointIndex(molecule.getBoilingPoint(), false), molecule); // After any Molecules with the same boiling point
+    };
+
+    /**
+     * Remove a {@link Molecule} which is about to be taken out of this Mixture from the {@link Mixture#volumetricHeatCapacity heat capacity}
+     * and the {@link Mixture#moleculesByBoilingPoint boiling point order}.
+     * @param molecule
+     */
+    private void removeFromThermalState(Molecule molecule) {
+        Float concentration = contents.get(molecule);
+        if (concentration == null) return;
+        volumetricHeatCapacity -= molecule.getMolarHeatCapacity() * concentration;
+        if (contents.size() == 1) volumetricHeatCapacity = 0f; // Don't leave behind any rounding errors
+        for (int i = getBoilingPointIndex(molecule.getBoilingPoint(), true); i < moleculesByBoilingPoint.size(); i++) {
+            if (moleculesByBoilingPoint.get(i) == molecule) {
+                moleculesByBoilingPoint.remove(i);
+                break;
+            };
+        };
+    };
+
+    /**
+     * Binary search the {@link Mixture#moleculesByBoilingPoint boiling point order}.
+     * @param boilingPoint
+     * @param inclusive Whether to find the first {@link Molecule} with a boiling point at least this high, rather than strictly higher
+     * @return The index of that Molecule, or the number of Molecules if there is none
+     */
+    private int getBoilingPointIndex(float boilingPoint, boolean inclusive) {
+        int low = 0;
+        int high = moleculesByBoilingPoint.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            float middleBoilingPoint = moleculesByBoilingPoint.get(middle).getBoilingPoint();
+            if (inclusive ? middleBoilingPoint < boilingPoint : middleBoilingPoint <= boilingPoint) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            };
+        };
+        return low;
     };
 
     /**
@@ -777,101 +1161,68 @@ public class Mixture extends ReadOnlyMixture {
     protected void updateNextBoilingPoints() {
         nextHigherBoilingPoint = Pair.of(Float.MAX_VALUE, null);
         nextLowerBoilingPoint = Pair.of(0f, null);
-        for (Molecule molecule : contents.keySet()) {
-            float bp = molecule.getBoilingPoint();
-            if (bp <= temperature) {
-                if (bp > nextLowerBoilingPoint.getFirst()) nextLowerBoilingPoint = Pair.of(bp, molecule);
-            }
-            if (bp >= temperature) { // If the boiling point is higher than the current temperture.
-                if (bp < nextHigherBoilingPoint.getFirst()) nextHigherBoilingPoint = Pair.of(bp, molecule);
-            };
+
+        int higher = getBoilingPointIndex(temperature, true); // The first Molecule with a boiling point at or above the current temperature
+        if (higher < moleculesByBoilingPoint.size()) {
+            Molecule molecule = moleculesByBoilingPoint.get(higher);
+            if (molecule.getBoilingPoint() < Float.MAX_VALUE) nextHigherBoilingPoint = Pair.of(molecule.getBoilingPoint(), molecule);
+        };
+
+        int lower = getBoilingPointIndex(temperature, false) - 1; // The last Molecule with a boiling point at or below the current temperature
+        if (lower >= 0) {
+            Molecule molecule = moleculesByBoilingPoint.get(lower);
+            if (molecule.getBoilingPoint() > 0f) nextLowerBoilingPoint = Pair.of(molecule.getBoilingPoint(), molecule);
         };
     };
 
     /**
      * Adds a {@link Molecule} to this Mixture.
-     * If a novel Molecule is being added, it is checked against pre-existing novel Molecules
-     * and if a matching one already exists, the concentration of it is increased.
+     * If the Molecule already exists, the concentration of it is increased. Novel Molecules are {@link Molecule#getNovelMolecule interned},
+     * so a novel Molecule which matches one already in this Mixture is always the same object.
+     * The {@link Mixture#possibleReactions possible Reactions} are updated straight away if a brand new Molecule is added.
      * @param molecule The Molecule to add
      * @param concentration The starting concentration for the Molecule
-     * @param shouldRefreshReactions Whether to {@link Mixture#refreshPossibleReactions refresh possible Reactions} -
-     * this should only be set to false when multiple Molecules are being added/removed at once (such as when {@link Mixture#reactForTick reacting})
-     * and it makes sense to only refresh the Reactions once
      * @return {@code true} if a brand new Molecule that was not already in this Mixture was added; {@code false} otherwise
      * @see Mixture#addMolecule The wrapper for this method
      * @see Mixture#changeConcentrationOf Modifying the concentration of pre-existing Molecule
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    private boolean internalAddMolecule(Molecule molecule, float concentration, Boolean shouldRefreshReactions) {
+    private boolean internalAddMolecule(Molecule molecule, float concentration) {
 
-        boolean newMoleculeAdded = true; // Start by assuming we're adding a brand new Molecule to this solution
+        equilibrium = false;
 
         if (getConcentrationOf(molecule) != 0f) { // Just in case this Molecule is already in the Mixture, increase its concentration
-            changeConcentrationOf(molecule, concentration, shouldRefreshReactions);
+            changeConcentrationOf(molecule, concentration);
             return false;
         };
 
-        if (!molecule.isNovel()) super.addMolecule(molecule, concentration);
-
-        List<Group<?>> functionalGroups = molecule.getFunctionalGroups();
-        if (functionalGroups.size() != 0) {
-            for (Group group : functionalGroups) { // Unparameterised raw type
-                addGroupToMixture(molecule, group); // Unchecked conversion
-            };
-        };
-
-        if (molecule.isNovel()) { // If this is a novel Molecule, it might already match to one of our existing novel Molecules
-            boolean found = false; // Start by assuming it's not already in the Mixture
-            for (Molecule novelMolecule : novelMolecules) { // Check every novel Molecule
-                if (novelMolecule.getFullID().equals(molecule.getFullID())) {
-                    found = true;
-                    newMoleculeAdded = false; // We haven't actually added a brand new Molecule so flag this
-                    changeConcentrationOf(novelMolecule, concentration, true);
-                    equilibrium = false;
-                };
-            };
-            if (!found) {
-                super.addMolecule(molecule, concentration);
-                novelMolecules.add(molecule); // If it was actually a brand new Molecule, add it to the novel list
-            }; 
-        };
-
-        if (shouldRefreshReactions && newMoleculeAdded) {
-            refreshPossibleReactions();
-        };
-
-        equilibrium = false;
+        super.addMolecule(molecule, concentration);
+        addToReactionIndex(molecule);
+        if (contents.containsKey(molecule)) addToThermalState(molecule);
 
-        return newMoleculeAdded; // Return whether or not we actually added a brand new Molecule
+        return true;
     };
 
-    private <G extends Group<G>> void addGroupToMixture(Molecule molecule, G group) {
+    private <G extends Group<G>> GenericReactant<G> addGroupToMixture(Molecule molecule, G group) {
         GroupType<G> groupType = group.getType();
         if (!groupIDsAndMolecules.containsKey(groupType)) {
             groupIDsAndMolecules.put(groupType, new ArrayList<>());
         };
-        groupIDsAndMolecules.get(groupType).add(new GenericReactant<>(molecule, group));
+        GenericReactant<G> reactant = new GenericReactant<>(molecule, group);
+        groupIDsAndMolecules.get(groupType).add(reactant);
+        return reactant;
     };
 
     /**
      * Removes the given {@link Molecule} from this Mixture, if that Molecule is already in it.
-     * This does not refresh possible {@link Reaction Reactions}.
+     * The {@link Mixture#possibleReactions possible Reactions} are updated straight away.
      * @param molecule
      * @return This Mixture
      */
     private Mixture removeMolecule(Molecule molecule) {
 
-        List<Group<?>> functionalGroups = molecule.getFunctionalGroups();
-        if (functionalGroups.size() != 0) {
-            for (Group<?> group : functionalGroups) {
-                groupIDsAndMolecules.get(group.getType()).removeIf((reactant) -> {
-                    return reactant.getMolecule() == molecule;
-                });
-            };
-        };
-        if (molecule.isNovel()) novelMolecules.remove(molecule);
-
+        removeFromThermalState(molecule);
         contents.remove(molecule);
+        removeFromReactionIndex(molecule);
         equilibrium = false; // As we have removed a Molecule the position equilibrium is likely to change
         updateNextBoilingPoints();
 
@@ -883,14 +1234,14 @@ public class Mixture extends ReadOnlyMixture {
      * This does not update the {@link ReadOnlyMixture#getName name} or equilibrium status of the Mixture.
      * @param molecule If not present in the Mixture, will be added to the Mixture
      * @param change The <em>change</em> in concentration, not the new value (can be positive or negative)
-     * @param shouldRefreshReactions Whether to alter the possible {@link Reaction Reactions} in the case that a new Molecule is added to the Mixture (should almost always be {@code true})
      */
-    private Mixture changeConcentrationOf(Molecule molecule, float change, boolean shouldRefreshReactions) {
+    private Mixture changeConcentrationOf(Molecule molecule, float change) {
         Float currentConcentration = getConcentrationOf(molecule);
 
         if (currentConcentration == 0f) {
             if (change > 0f) {
-                internalAddMolecule(molecule, change, shouldRefreshReactions);
+                internalAddMolecule(molecule, change);
+                return this;
             } else if (change < 0f) {
                 throw new IllegalArgumentException("Attempted to decrease concentration of Molecule '" + molecule.getFullID()+"', which was not in a Mixture. The Mixture contains " + getContentsString());
             };
@@ -900,6 +1251,7 @@ public class Mixture extends ReadOnlyMixture {
         if (newConcentration <= 0f) {
             removeMolecule(molecule);
         } else {
+            volumetricHeatCapacity += molecule.getMolarHeatCapacity() * change;
             contents.replace(molecule, newConcentration);
         };
         
@@ -920,128 +1272,438 @@ public class Mixture extends ReadOnlyMixture {
     };
 
     /**
-     * Determine all {@link Reaction Reactions} - including {@link GenericReactions Generic Reactions} that are possible with the {@link Molecule Molecules} in this Mixture,
-     * and update the {@link Mixture#possibleReactions stored possible Reactions} accordingly.
-     * This should be called whenever new Molecules have been {@link Mixture#addMolecule added} to the Mixture, or a Molecule has been removed entirely, but rarely otherwise.
+     * Add every {@link Reaction} which the given newly-added {@link Molecule} could take part in - including {@link GenericReaction Generic Reactions}
+     * involving its {@link Group functional Groups} - to the {@link Mixture#candidateReactions candidate Reactions}, and update which Reactions are {@link Mixture#possibleReactions possible}.
+     * Only Reactions involving this Molecule are considered, so this is much cheaper than working out every possible Reaction from scratch.
+     * @param molecule Must already be in {@link ReadOnlyMixture#contents the contents} of this Mixture
      */
-    private void refreshPossibleReactions() {
-        possibleReactions = new ArrayList<>();
-        Set<Reaction> newPossibleReactions = new HashSet<>();
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void addToReactionIndex(Molecule molecule) {
 
-        // Generate specific Generic Reactions
-        for (GroupType<?> groupType : groupIDsAndMolecules.keySet()) { // Only search for Generic Reactions of Groups present in this Molecule
-            checkEachGenericReaction: for (GenericReaction genericReaction : Group.getReactionsOfGroupByID(groupType)) {
+        compiledReactionsOutOfDate = true;
+
+        // Record the Groups of this Molecule (do this first so the Molecule knows not to react with itself)
+        List<GenericReactant<?>> genericReactants = new ArrayList<>();
+        for (Group group : molecule.getFunctionalGroups()) { // Unparameterised raw type
+            genericReactants.add(addGroupToMixture(molecule, group)); // Unchecked conversion
+        };
+
+        // Specified Reactions
+        for (Reaction reaction : molecule.getReactantReactions()) {
+            addCandidateReaction(reaction);
+        };
 
+        // Generate specific Generic Reactions
+        for (GenericReactant<?> reactant : genericReactants) {
+            GroupType<?> groupType = reactant.getGroup().getType();
+            Set<GenericReaction> genericReactions = Group.getReactionsOfGroupByID(groupType);
+            if (genericReactions == null) continue;
+            for (GenericReaction genericReaction : genericReactions) {
                 if (genericReaction.involvesSingleGroup()) { // Generic Reactions involving only one functional Group
-                    newPossibleReactions.addAll(specifySingleGroupGenericReactions(genericReaction, groupIDsAndMolecules.get(groupType)));
-                
-                } else { // Generic Reactions involving two functional Groups
-                    if (!(genericReaction instanceof DoubleGroupGenericReaction<?, ?> dggr)) continue checkEachGenericReaction; // This check should never fail
-                    if (groupType != dggr.getFirstGroupType()) continue checkEachGenericReaction; // Only generate Reactions when we're dealing with the first Group type
-                    
-                    GroupType<?> secondGroupType = dggr.getSecondGroupType();
-                    if (!groupIDsAndMolecules.keySet().contains(secondGroupType)) continue checkEachGenericReaction; // We can't do this generic reaction if we only have one group type
-                    
-                    List<Pair<GenericReactant<?>, GenericReactant<?>>> reactantPairs = new ArrayList<>();
-                    for (GenericReactant<?> firstGenericReactant : groupIDsAndMolecules.get(groupType)) {
-                        for (GenericReactant<?> secondGenericReactant : groupIDsAndMolecules.get(secondGroupType)) {
-                            reactantPairs.add(Pair.of(firstGenericReactant, secondGenericReactant));
+                    specifySingleGroupGenericReaction(genericReaction, reactant);
+                } else if (genericReaction instanceof DoubleGroupGenericReaction<?, ?> dggr) { // Generic Reactions involving two functional Groups
+                    if (groupType == dggr.getFirstGroupType()) { // Pair this Molecule with every other Molecule with the second Group
+                        for (GenericReactant<?> secondReactant : groupIDsAndMolecules.getOrDefault(dggr.getSecondGroupType(), List.of())) {
+                            specifyDoubleGroupGenericReaction(dggr, reactant, secondReactant);
+                        };
+                    };
+                    if (groupType == dggr.getSecondGroupType()) { // Pair every other Molecule with the first Group with this Molecule
+                        for (GenericReactant<?> firstReactant : groupIDsAndMolecules.getOrDefault(dggr.getFirstGroupType(), List.of())) {
+                            specifyDoubleGroupGenericReaction(dggr, firstReactant, reactant);
                         };
                     };
-
-                    newPossibleReactions.addAll(specifyDoubleGroupGenericReactions(dggr, reactantPairs));
                 };
             };
         };
 
-        //All Reactions
-        for (Molecule possibleReactant : contents.keySet()) {
-            newPossibleReactions.addAll(possibleReactant.getReactantReactions());
+        // Reactions which were only waiting on this Molecule (for example as a catalyst) might now be possible
+        for (Reaction reaction : dependentReactions.getOrDefault(molecule, Set.of())) {
+            if (hasAllReactantsAndCatalysts(reaction)) possibleReactions.add(reaction);
         };
-        for (Reaction reaction : newPossibleReactions) {
-            //possibleReactions.add(reaction);
+    };
 
-            /* 
-             * This checks if all necessary Reactants were present before proceeding, however this leads to some infinite loops
-             * where one half of a reversible Reaction would happen one tick, then the other one the next, etc.
-             */ 
-            Boolean reactionHasAllReactants = true;
-            for (Molecule necessaryReactantOrCatalyst : reaction.getOrders().keySet()) {
-                if (getConcentrationOf(necessaryReactantOrCatalyst) == 0) {
-                    reactionHasAllReactants = false;
-                    break;
+    /**
+     * Forget every {@link Reaction} which depended on the given {@link Molecule}, which has just been removed from this Mixture.
+     * @param molecule Must already have been removed from {@link ReadOnlyMixture#contents the contents} of this Mixture
+     */
+    private void removeFromReactionIndex(Molecule molecule) {
+
+        compiledReactionsOutOfDate = true;
+
+        // Forget the Groups of this Molecule
+        for (Group<?> group : molecule.getFunctionalGroups()) {
+            List<GenericReactant<?>> reactants = groupIDsAndMolecules.get(group.getType());
+            if (reactants == null) continue;
+            reactants.removeIf(reactant -> reactant.getMolecule() == molecule);
+            if (reactants.isEmpty()) groupIDsAndMolecules.remove(group.getType());
+        };
+
+        // No Reaction needing this Molecule is possible any more
+        possibleReactions.removeAll(dependentReactions.getOrDefault(molecule, Set.of()));
+
+        // Stop considering Reactions which were only being considered because of this Molecule
+        for (Reaction reaction : molecule.getReactantReactions()) {
+            removeCandidateReaction(reaction, false);
+        };
+        Set<Reaction> reactionsGeneratedFromMolecule = generatedReactions.remove(molecule);
+        if (reactionsGeneratedFromMolecule != null) {
+            for (Reaction reaction : reactionsGeneratedFromMolecule) {
+                removeCandidateReaction(reaction, true);
+                // The other Molecules this Reaction was generated from shouldn't keep hold of it either
+                for (Molecule otherReactant : reaction.getReactants()) {
+                    Set<Reaction> reactionsGeneratedFromOtherReactant = generatedReactions.get(otherReactant);
+                    if (reactionsGeneratedFromOtherReactant == null) continue;
+                    reactionsGeneratedFromOtherReactant.remove(reaction);
+                    if (reactionsGeneratedFromOtherReactant.isEmpty()) generatedReactions.remove(otherReactant);
                 };
             };
-            if (reactionHasAllReactants) {
-                possibleReactions.add(reaction);
-            };
         };
+    };
 
+    /**
+     * Start considering the given {@link Reaction} for this Mixture (or note that one more {@link Molecule} in this Mixture is a reason to consider it).
+     * @param reaction
+     */
+    private void addCandidateReaction(Reaction reaction) {
+        if (candidateReactions.merge(reaction, 1, (i1, i2) -> i1 + i2) > 1) return; // We already knew about this Reaction
+        for (Molecule necessaryReactantOrCatalyst : reaction.getOrders().keySet()) {
+            dependentReactions.computeIfAbsent(necessaryReactantOrCatalyst, m -> new HashSet<>()).add(reaction);
+        };
+        if (hasAllReactantsAndCatalysts(reaction)) possibleReactions.add(reaction);
+    };
+
+    /**
+     * Stop considering the given {@link Reaction} for this Mixture, once there is no {@link Molecule} left in this Mixture which is a reason to consider it.
+     * @param reaction
+     * @param entirely Whether to forget the Reaction regardless of how many other Molecules are a reason to consider it
+     */
+    private void removeCandidateReaction(Reaction reaction, boolean entirely) {
+        Integer reasons = candidateReactions.get(reaction);
+        if (reasons == null) return;
+        if (!entirely && reasons > 1) {
+            candidateReactions.put(reaction, reasons - 1);
+            return;
+        };
+        candidateReactions.remove(reaction);
+        for (Molecule necessaryReactantOrCatalyst : reaction.getOrders().keySet()) {
+            Set<Reaction> reactions = dependentReactions.get(necessaryReactantOrCatalyst);
+            if (reactions == null) continue;
+            reactions.remove(reaction);
+            if (reactions.isEmpty()) dependentReactions.remove(necessaryReactantOrCatalyst);
+        };
+        possibleReactions.remove(reaction);
+    };
+
+    /**
+     * Whether every {@link Molecule} which is a Reactant or catalyst of the given {@link Reaction} is present in this Mixture.
+     * <p>Only considering Reactions which have all their Reactants does lead to some infinite loops where one half of a reversible Reaction
+     * would happen one tick, then the other one the next, etc.</p>
+     * @param reaction
+     */
+    private boolean hasAllReactantsAndCatalysts(Reaction reaction) {
+        for (Molecule necessaryReactantOrCatalyst : reaction.getOrders().keySet()) {
+            if (getConcentrationOf(necessaryReactantOrCatalyst) == 0) return false;
+        };
+        return true;
     };
 
     /**
      * Given a {@link SingleGroupGenericReaction Generic Reaction} involving only one {@link Group functional Group},
-     * generates the specified {@link Reaction Reactions} that apply to this Mixture.
+     * generates the specified {@link Reaction} for the given Reactant and considers it for this Mixture.
      * 
      * <p>For example, if the Generic Reaction supplied is the {@link com.petrolpark.destroy.chemistry.index.genericreaction.AlkeneHydrolysis hydration of an alkene},
-     * and <b>reactants</b> includes {@code destroy:ethene}, the returned collection will include a Reaction with {@code destroy:ethene} and {@code destroy:water} as reactants,
+     * and the <b>reactant</b> is {@code destroy:ethene}, the generated Reaction will have {@code destroy:ethene} and {@code destroy:water} as reactants,
      * {@code destroy:ethanol} as a product, and all the appropriate rate constants and catalysts as defined in the {@link com.petrolpark.destroy.chemistry.index.AlkeneHydrolysis.AlkeneHydration#generateReaction generator}.</p>
      * 
      * @param <G> <b>G</b> The Group to which this Generic Reaction applies
      * @param genericReaction
-     * @param reactants All {@link GenericReactant Reactants} that have the Group
-     * @return A Collection of all specified Reactions
+     * @param reactant A {@link GenericReactant Reactant} that has the Group
      */
     @SuppressWarnings("unchecked")
-    private <G extends Group<G>> List<Reaction> specifySingleGroupGenericReactions(GenericReaction genericReaction, List<GenericReactant<?>> reactants) {
-        List<Reaction> reactions = new ArrayList<>();
+    private <G extends Group<G>> void specifySingleGroupGenericReaction(GenericReaction genericReaction, GenericReactant<?> reactant) {
         SingleGroupGenericReaction<G> singleGroupGenericReaction = (SingleGroupGenericReaction<G>) genericReaction; // Unchecked conversion
-        for (GenericReactant<?> reactant : reactants) {
-            try {
-                Reaction reaction = singleGroupGenericReaction.generateReaction((GenericReactant<G>)reactant);
-                if (reaction != null) reactions.add(reaction); // Unchecked conversion
-            } catch(ChemistryException e) {
-                // Don't do anything for chemistry exceptions
-            };
+        try {
+            Reaction reaction = singleGroupGenericReaction.getOrGenerateReaction((GenericReactant<G>)reactant); // Unchecked conversion
+            if (reaction != null) addGeneratedReaction(reaction, reactant.getMolecule());
+        } catch(ChemistryException e) {
+            // Don't do anything for chemistry exceptions
         };
-        return reactions;
     };
 
     /**
      * Given a {@link DoubleGroupGenericReaction Generic Reaction} involving two {@link Group functional Groups},
-     * generates the specified {@link Reaction Reactions} that apply to this Mixture.
+     * generates the specified {@link Reaction} for the given pair of Reactants and considers it for this Mixture.
      * 
      * <p>For example, if the Generic Reaction supplied is {@link com.petrolpark.destroy.chemistry.index.genericreaction.AcylChlorideEsterification esterification},
-     * and this this Mixture contains methanoyl chloride, ethanoyl chloride, and ethanol, the returned collection will include two Reactions, one of which makes 
+     * and this this Mixture contains methanoyl chloride, ethanoyl chloride, and ethanol, two Reactions will be generated over the pairs of Reactants, one of which makes 
      * ethyl ethanoate and the other ethyl methanoate.</p>
      * 
      * @param <G1> <b>G1</b> The first Group to which this Generic Reaction applies
      * @param <G2> <b>G2</b> The second Group to which this Generic Reaction applies
      * @param genericReaction
-     * @param reactantPairs All possible pairs of {@link GenericReactant Reactants} in this Mixture
-     * @return A Collection of specified Reactions
-     * @see Mixture#specifySingleGroupGenericReactions A more in-depth description
+     * @param firstReactant A {@link GenericReactant Reactant} with the first Group
+     * @param secondReactant A Reactant with the second Group
+     * @see Mixture#specifySingleGroupGenericReaction A more in-depth description
      */
     @SuppressWarnings("unchecked")
-    private <G1 extends Group<G1>, G2 extends Group<G2>> List<Reaction> specifyDoubleGroupGenericReactions(GenericReaction genericReaction, List<Pair<GenericReactant<?>, GenericReactant<?>>> reactantPairs) {
-            DoubleGroupGenericReaction<G1, G2> doubleGroupGenericReaction = (DoubleGroupGenericReaction<G1, G2>) genericReaction; // Unchecked conversion
-            List<Reaction> reactions = new ArrayList<>();
-            for (Pair<GenericReactant<?>, GenericReactant<?>> reactantPair : reactantPairs) {
-                if (reactantPair.getFirst().getMolecule() == reactantPair.getSecond().getMolecule()) continue; // Cannot React Molecules with themselves
-                try {
-                    Reaction reaction = doubleGroupGenericReaction.generateReaction((GenericReactant<G1>)reactantPair.getFirst(), (GenericReactant<G2>)reactantPair.getSecond());
-                    if (reaction != null) reactions.add(reaction); // Unchecked conversions {
-                } catch(ChemistryException e) {
-                    // Do nothing for chemistry exceptions
-                };
-            };
-            return reactions;
+    private <G1 extends Group<G1>, G2 extends Group<G2>> void specifyDoubleGroupGenericReaction(GenericReaction genericReaction, GenericReactant<?> firstReactant, GenericReactant<?> secondReactant) {
+        if (firstReactant.getMolecule() == secondReactant.getMolecule()) return; // Cannot React Molecules with themselves
+        DoubleGroupGenericReaction<G1, G2> doubleGroupGenericReaction = (DoubleGroupGenericReaction<G1, G2>) genericReaction; // Unchecked conversion
+        try {
+            Reaction reaction = doubleGroupGenericReaction.getOrGenerateReaction((GenericReactant<G1>)firstReactant, (GenericReactant<G2>)secondReactant); // Unchecked conversions
+            if (reaction != null) addGeneratedReaction(reaction, firstReactant.getMolecule(), secondReactant.getMolecule());
+        } catch(ChemistryException e) {
+            // Do nothing for chemistry exceptions
+        };
+    };
+
+    /**
+     * Consider a {@link Reaction} {@link GenericReaction generated} from the given {@link Molecule Molecules}, and forget it when any of them are removed.
+     * @param reaction
+     * @param reactants The Molecules whose Groups were used to generate the Reaction
+     */
+    private void addGeneratedReaction(Reaction reaction, Molecule ...reactants) {
+        boolean newlyGenerated = false;
+        for (Molecule reactant : reactants) {
+            newlyGenerated |= generatedReactions.computeIfAbsent(reactant, m -> new HashSet<>()).add(reaction);
+        };
+        if (newlyGenerated) addCandidateReaction(reaction);
     };
 
     public static boolean areVeryClose(Float f1, Float f2) {
         return Math.abs(f1 - f2) <= 0.0001f;
     };
 
+    /**
+     * A {@link Reaction} with every {@link Molecule} it involves replaced by its {@link Mixture#slots slot} in this Mixture.
+     */
+    protected class CompiledReaction {
+
+        public final Reaction reaction;
+
+        protected final int[] reactantSlots;
+        protected final int[] reactantMolarRatios;
+        protected final int[] productSlots;
+        protected final int[] productMolarRatios;
+        protected final int[] orderSlots;
+        protected final int[] orders;
+
+        protected CompiledReaction(Reaction reaction) {
+            this.reaction = reaction;
+
+            reactantSlots = new int[reaction.getReactants().size()];
+            reactantMolarRatios = new int[reactantSlots.length];
+            int i = 0;
+            for (Molecule reactant : reaction.getReactants()) {
+                reactantSlots[i] = getSlot(reactant);
+                reactantMolarRatios[i] = reaction.getReactantMolarRatio(reactant);
+                i++;
+            };
+
+            productSlots = new int[reaction.getProducts().size()];
+            productMolarRatios = new int[productSlots.length];
+            i = 0;
+            for (Molecule product : reaction.getProducts()) {
+                productSlots[i] = getSlot(product);
+                productMolarRatios[i] = reaction.getProductMolarRatio(product);
+                i++;
+            };
+
+            orderSlots = new int[reaction.getOrders().size()];
+            orders = new int[orderSlots.length];
+            i = 0;
+            for (Entry<Molecule, Integer> order : reaction.getOrders().entrySet()) {
+                orderSlots[i] = getSlot(order.getKey());
+                orders[i] = order.getValue();
+                i++;
+            };
+        };
+
+        /**
+         * Get the rate - in moles of Reaction per Bucket <em>per tick</em> - at which this Reaction will proceed, given the concentrations currently in the {@link Mixture#slotMolecules slots}.
+         * @param context
+         */
+        protected float calculateRate(ReactionContext context) {
+            return calculateRate(context, slotConcentrations);
+        };
+
+        /**
+         * Get the rate - in moles of Reaction per Bucket <em>per tick</em> - at which this Reaction would proceed, given the concentration of the Molecule in each slot.
+         * @param context
+         * @param concentrations
+         */
+        protected float calculateRate(ReactionContext context, float[] concentrations) {
+            float rate = reaction.getRateConstant(temperature) / (float) TICKS_PER_SECOND;
+            for (int i = 0; i < orderSlots.length; i++) {
+                rate *= (float)Math.pow(concentrations[orderSlots[i]], orders[i]);
+            };
+            if (reaction.needsUV()) rate *= context.UVPower;
+            return rate;
+        };
+    };
+
+    /**
+     * Collects {@link Mixture Mixtures} which are to be {@link Mixture#mix mixed} together as the number of moles of each {@link Molecule} and
+     * {@link ReactionResult}, and their total internal energy. The mixed Mixture only gets built once, when it is needed, however many Mixtures were added.
+     */
+    public static class Accumulator {
+
+        private final Map<Molecule, Double> moleculesAndMoles; // A Map of all Molecules to their quantity in moles (not their concentration)
+        private final Map<Molecule, Double> gaseousMoleculesAndMoles; // How many of those moles are gaseous
+        private final Map<ReactionResult, Double> reactionResultsAndMoles; // A Map of all Reaction Results to their quantity in moles
+        private double totalAmount;
+        private float totalEnergy;
+
+        public Accumulator() {
+            moleculesAndMoles = new HashMap<>();
+            gaseousMoleculesAndMoles = new HashMap<>();
+            reactionResultsAndMoles = new HashMap<>();
+            totalAmount = 0d;
+            totalEnergy = 0f;
+        };
+
+        /**
+         * Add some of a Mixture. The Mixture itself is not kept, so it may be changed afterwards.
+         * @param mixture
+         * @param amount In Buckets
+         */
+        public void add(Mixture mixture, double amount) {
+            totalAmount += amount;
+
+            for (Entry<Molecule, Float> entry : mixture.contents.entrySet()) {
+                Molecule molecule = entry.getKey();
+                float concentration = entry.getValue();
+                moleculesAndMoles.merge(molecule, concentration * amount, (m1, m2) -> m1 + m2); // Add the Molecule to the map if it's a new one, or increase the existing molar quantity otherwise
+                gaseousMoleculesAndMoles.merge(molecule, concentration * mixture.states.get(molecule) * amount, (m1, m2) -> m1 + m2);
+                totalEnergy += molecule.getMolarHeatCapacity() * concentration * mixture.temperature * amount; // Add all the energy that would be required to raise this Molecule from 0K to its current temperature
+                totalEnergy += molecule.getLatentHeat() * concentration * mixture.states.get(molecule) * amount; // Add all the energy that would be required to vaporise this Molecule, if necessary
+            };
+
+            for (Entry<ReactionResult, Float> entry : mixture.reactionResults.entrySet()) {
+                reactionResultsAndMoles.merge(entry.getKey(), entry.getValue() * amount, (r1, r2) -> r1 + r2); // Same for Reaction Results
+            };
+        };
+
+        /**
+         * Add some of a Mixture straight from its Compound Tag. Only the {@link Molecule Molecules}, their states, the temperature and the {@link ReactionResult Reaction Results}
+         * are read, so unlike {@link Mixture#readNBT reading} the whole Mixture, none of the {@link Mixture#possibleReactions Reactions} it could undergo get worked out.
+         * @param mixtureTag
+         * @param amount In Buckets
+         */
+        public void add(CompoundTag mixtureTag, double amount) {
+            Mixture ingredients = new Mixture();
+            ingredients.indexReactionsOnRead = false;
+            ingredients.read(mixtureTag);
+            add(ingredients, amount);
+        };
+
+        public boolean isEmpty() {
+            return totalAmount <= 0d;
+        };
+
+        /**
+         * The total amount (in Buckets) of everything which has been {@link Accumulator#add added}.
+         */
+        public double getTotalAmount() {
+            return totalAmount;
+        };
+
+        /**
+         * Build a new Mixture out of everything which has been {@link Accumulator#add added} so far.
+         */
+        public Mixture mix() {
+            Mixture resultMixture = new Mixture();
+            if (isEmpty()) return resultMixture;
+
+            for (Entry<Molecule, Double> moleculeAndMoles : moleculesAndMoles.entrySet()) {
+                Molecule molecule = moleculeAndMoles.getKey();
+                resultMixture.internalAddMolecule(molecule, (float)(moleculeAndMoles.getValue() / totalAmount)); // Add all these Molecules to the new Mixture
+                resultMixture.states.put(molecule, 0f); // Set it to entirely liquid as we will soon be reheating the Mixture from 0K
+            };
+
+            for (Entry<ReactionResult, Double> reactionResultAndMoles : reactionResultsAndMoles.entrySet()) {
+                resultMixture.incrementReactionResults(reactionResultAndMoles.getKey().getReaction(), (float)(reactionResultAndMoles.getValue() / totalAmount)); // Add all Reaction Results to the new Mixture
+            };
+
+            resultMixture.temperature = 0f; // Initially set the temperature of the new Mixture to 0K
+            resultMixture.updateNextBoilingPoints();
+            resultMixture.heat(totalEnergy / (float)totalAmount); // Now heat it up with the total internal energy of all component Mixtures
+
+            resultMixture.updateName();
+            resultMixture.updateColor();
+            resultMixture.updateNextBoilingPoints();
+
+            return resultMixture;
+        };
+
+        /**
+         * Mix everything which has been {@link Accumulator#add added} so far into an existing Mixture.
+         * <p>If nothing new is being added to the Mixture, it is changed and returned, keeping its {@link Mixture#possibleReactions possible Reactions},
+         * {@link Mixture#groupIDsAndMolecules functional Groups} and boiling point order, and only being heated or cooled by the difference in energy
+         * the added Mixtures bring. Otherwise, or if anything added is not already {@link Accumulator#arePhasesSettledAt in the state} it would be at the
+         * temperature of the Mixture (such as steam being added to cold water), a new Mixture is {@link Accumulator#mix built} from scratch, and the existing one is not changed.</p>
+         * @param mixture
+         * @param amount The amount (in Buckets) of the existing Mixture
+         * @return The mixed Mixture
+         */
+        public Mixture mixInto(Mixture mixture, double amount) {
+            if (isEmpty()) return mixture;
+            if (!mixture.contents.keySet().containsAll(moleculesAndMoles.keySet()) || amount <= 0d // If there are new Molecules, the Reactions need working out again anyway
+                || !arePhasesSettledAt(mixture.temperature)) { // Heating only boils or condenses Molecules when it reaches their boiling points, so it can't fix these
+                add(mixture, amount);
+                return mix();
+            };
+
+            double newTotalAmount = totalAmount + amount;
+            float energyDifference = totalEnergy; // How much more energy the added Mixtures have than they would if they were at the temperature and in the states of the existing Mixture
+            for (Entry<Molecule, Double> moleculeAndMoles : moleculesAndMoles.entrySet()) {
+                Molecule molecule = moleculeAndMoles.getKey();
+                energyDifference -= molecule.getMolarHeatCapacity() * moleculeAndMoles.getValue() * mixture.temperature;
+                energyDifference -= molecule.getLatentHeat() * gaseousMoleculesAndMoles.get(molecule);
+            };
+
+            for (Entry<Molecule, Float> entry : mixture.contents.entrySet()) {
+                Molecule molecule = entry.getKey();
+                double moles = entry.getValue() * amount;
+                double gaseousMoles = mixture.states.getOrDefault(molecule, 0f) * moles + gaseousMoleculesAndMoles.getOrDefault(molecule, 0d);
+                moles += moleculesAndMoles.getOrDefault(molecule, 0d);
+                entry.setValue((float)(moles / newTotalAmount));
+                mixture.states.put(molecule, (float)(gaseousMoles / moles));
+            };
+            mixture.recalculateVolumetricHeatCapacity();
+
+            mixture.reactionResults.replaceAll((result, molesPerBucket) -> (float)(molesPerBucket * amount / newTotalAmount));
+            for (Entry<ReactionResult, Double> reactionResultAndMoles : reactionResultsAndMoles.entrySet()) {
+                mixture.incrementReactionResults(reactionResultAndMoles.getKey().getReaction(), (float)(reactionResultAndMoles.getValue() / newTotalAmount));
+            };
+
+            mixture.disturbEquilibrium();
+            mixture.heat(energyDifference / (float)newTotalAmount);
+
+            mixture.translationKey = ""; // This is no longer the Mixture it may have been named after
+            mixture.updateName();
+            mixture.updateColor();
+            mixture.updateNextBoilingPoints();
+
+            return mixture;
+        };
+
+        /**
+         * Whether everything which has been {@link Accumulator#add added} is already in the state it would be in at the given temperature -
+         * gaseous above its boiling point and liquid below it.
+         * @param temperature In kelvins
+         */
+        private boolean arePhasesSettledAt(float temperature) {
+            for (Entry<Molecule, Double> moleculeAndMoles : moleculesAndMoles.entrySet()) {
+                Molecule molecule = moleculeAndMoles.getKey();
+                if (molecule.getBoilingPoint() == temperature || moleculeAndMoles.getValue() <= 0d) continue; // Anything goes at the boiling point
+                float gaseousProportion = (float)(gaseousMoleculesAndMoles.getOrDefault(molecule, 0d) / moleculeAndMoles.getValue());
+                if (!areVeryClose(gaseousProportion, molecule.getBoilingPoint() < temperature ? 1f : 0f)) return false;
+            };
+            return true;
+        };
+    };
+
     /**
      * The context for the {@link Mixture#reactForTick reaction} of a {@link Mixture}.
      * <strong>Do not modify its fields, or anything contained within them.</em>
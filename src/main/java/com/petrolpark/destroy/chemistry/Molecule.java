@@ -1,4 +1,5 @@
 package com.petrolpark.destroy.chemistry;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -6,6 +7,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import javax.annotation.Nullable;
 
@@ -53,6 +55,17 @@ public class Molecule implements INameableProduct {
      * All non-novel Molecules known to Destroy, indexed by their {@link Molecule#getFullID ID}.
      */
     public static final Map<String, Molecule> MOLECULES = new HashMap<>(); // Map of Molecules stored by their IDs
+    /**
+     * All non-novel Molecules known to Destroy, indexed by their {@link Molecule#getMolecularFormula molecular formula}, so that {@link Molecule#getEquivalent finding equivalent Molecules}
+     * only has to compare the structures of isomers.
+     */
+    private static final Map<Map<Element, Integer>, List<Molecule>> MOLECULES_BY_FORMULA = new HashMap<>();
+    /**
+     * Every novel Molecule which currently exists, indexed by its FROWNS code, so that there is only ever one instance of each novel Molecule.
+     * The keys are the FROWNS codes held by the Molecules themselves and the values are weak, so novel Molecules which are no longer in
+     * any Mixture or {@link Reaction} can still be garbage-collected.
+     */
+    private static final Map<String, WeakReference<Molecule>> NOVEL_MOLECULES = new WeakHashMap<>();
 
     /**
      * The name space of the mod by which this Molecule was defined.
@@ -171,6 +184,8 @@ public class Molecule implements INameableProduct {
         Molecule molecule = MOLECULES.get(id);
         if (molecule != null) return molecule;
         if (idComponents.length == 3) {
+            Molecule novelMolecule = getNovelMolecule(id);
+            if (novelMolecule != null) return novelMolecule; // Don't bother deserializing the FROWNS code if we already have this Molecule
             return new MoleculeBuilder("novel")
                 .structure(Formula.deserialize(id))
                 .build();
@@ -209,14 +224,16 @@ public class Molecule implements INameableProduct {
      * which are less processing-intensive.
      * <p>For example, if this Molecule has structure {@code linear:CC(=O)C} this will return {@link DestroyMolecules#ACETONE acetone}.</p>
      * <p>When Generic Reactions are making Molecules to add to {@link Mixture Mixtures}, this step is done at {@link Reaction} generation, not when {@link Mixture#addMolecule adding}.</p>
+     * <p>Only known Molecules with the same {@link Molecule#getMolecularFormula molecular formula} are compared, so most novel Molecules don't need to be serialized at all.</p>
      * @return A pre-existing Molecule object if there is a match, or this Molecule otherwise
      */
     public Molecule getEquivalent() {
-        for (Molecule molecule : MOLECULES.values()) {
-            if (Math.abs(getMass() - molecule.getMass()) < 0.001) { // Initially just check the masses match
-                if (structure.serialize().equals(molecule.structure.serialize())) { // Check the structures match
-                    return molecule;
-                };
+        List<Molecule> isomers = MOLECULES_BY_FORMULA.get(getMolecularFormula());
+        if (isomers == null) return this; // If nothing has the same atoms, nothing can have the same structure
+        String FROWNSCode = structure.serialize();
+        for (Molecule molecule : isomers) {
+            if (FROWNSCode.equals(molecule.structure.serialize())) { // Check the structures match (known Molecules remember their FROWNS codes once they've been worked out)
+                return molecule;
             };
         };
         return this;
@@ -226,6 +243,34 @@ public class Molecule implements INameableProduct {
         return structure.serialize();
     };
 
+    /**
+     * Get the existing instance of the novel Molecule with the given FROWNS code, if there is one.
+     * @param FROWNSCode
+     * @return {@code null} if there is no such novel Molecule
+     */
+    @Nullable
+    public static Molecule getNovelMolecule(String FROWNSCode) {
+        synchronized (NOVEL_MOLECULES) {
+            WeakReference<Molecule> reference = NOVEL_MOLECULES.get(FROWNSCode);
+            return reference == null ? null : reference.get();
+        }
+    };
+
+    /**
+     * Get the one shared instance of the given novel Molecule, making it the shared instance if there isn't one yet.
+     * @param molecule
+     */
+    private static Molecule internNovelMolecule(Molecule molecule) {
+        String FROWNSCode = molecule.getFullID();
+        synchronized (NOVEL_MOLECULES) {
+            WeakReference<Molecule> reference = NOVEL_MOLECULES.get(FROWNSCode);
+            Molecule existingMolecule = reference == null ? null : reference.get();
+            if (existingMolecule != null) return existingMolecule;
+            NOVEL_MOLECULES.put(FROWNSCode, new WeakReference<>(molecule));
+            return molecule;
+        }
+    };
+
     /**
      * The charge of this Molecule, used to balance salts.
      */
@@ -761,6 +806,10 @@ public class Molecule implements INameableProduct {
                 if (equivalentMolecule != molecule) {
                     return equivalentMolecule;
                 };
+                Molecule existingNovelMolecule = getNovelMolecule(molecule.getFullID());
+                if (existingNovelMolecule != null) { // If this novel Molecule has been made before, use that one
+                    return existingNovelMolecule;
+                };
             };
 
             if (molecule.getMolecularFormula().containsKey(Element.R_GROUP)) tag(DestroyMolecules.Tags.HYPOTHETICAL);
@@ -785,7 +834,10 @@ public class Molecule implements INameableProduct {
                     throw e("Molecule's ID has not been declared.");
                 } else {
                     MOLECULES.put(molecule.nameSpace+":"+molecule.id, molecule);
+                    MOLECULES_BY_FORMULA.computeIfAbsent(molecule.getMolecularFormula(), formula -> new ArrayList<>()).add(molecule);
                 };
+            } else {
+                return internNovelMolecule(molecule); // In case the same novel Molecule was made at the same time somewhere else
             };
 
             return molecule;
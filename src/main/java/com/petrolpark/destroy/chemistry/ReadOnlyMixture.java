@@ -3,10 +3,15 @@ package com.petrolpark.destroy.chemistry;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
 
 import com.jozufozu.flywheel.util.Color;
 import com.petrolpark.destroy.Destroy;
@@ -15,11 +20,13 @@ import com.petrolpark.destroy.chemistry.naming.INameableProduct;
 import com.petrolpark.destroy.chemistry.naming.NamedSalt;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
 import com.petrolpark.destroy.util.DestroyLang;
-import com.simibubi.create.foundation.utility.NBTHelper;
 
+import io.netty.buffer.Unpooled;
 import net.minecraft.ChatFormatting;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
@@ -45,6 +52,40 @@ public class ReadOnlyMixture {
      */
     public static final float IMPURITY_THRESHOLD = 0.1f;
 
+    /**
+     * The version of the compact encoding written by {@link ReadOnlyMixture#writeNBT}. This should be incremented whenever the
+     * layout written by {@link ReadOnlyMixture#writeCompact} (or an override of it) changes.
+     */
+    public static final int COMPACT_ENCODING_VERSION = 1;
+
+    /**
+     * Codes for the {@link ReadOnlyMixture#states state} of a {@link Molecule} in the compact encoding. Partially gaseous Molecules
+     * are the only ones for which the proportion needs to be written out in full.
+     */
+    private static final byte LIQUID = 0, GASEOUS = 1, PARTIALLY_GASEOUS = 2;
+
+    /**
+     * The maximum number of {@link ReadOnlyMixture#readSnapshot snapshots} which are kept decoded at once.
+     */
+    private static final int MAX_CACHED_SNAPSHOTS = 512;
+
+    /**
+     * Read-Only Mixtures which have already been decoded, mapped by the contents of the Compound Tag from which they were decoded.
+     * This is access-ordered so that the least recently used snapshot is the one which gets discarded.
+     */
+    private static final Map<CompoundTag, ReadOnlyMixture> SNAPSHOTS = Collections.synchronizedMap(new LinkedHashMap<>(MAX_CACHED_SNAPSHOTS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CompoundTag, ReadOnlyMixture> eldest) {
+            return size() > MAX_CACHED_SNAPSHOTS;
+        };
+    });
+
+    /**
+     * Whether Mixtures made or changed on this thread should leave {@link ReadOnlyMixture#updateName naming} until their name is first needed.
+     * Naming reads the client config and language, so shouldn't happen away from the main threads.
+     */
+    private static final ThreadLocal<Boolean> DEFER_NAMING = ThreadLocal.withInitial(() -> false);
+
     /**
      * The display name of this Mixture. This may be a custom name (if this Mixture comes from a Recipe), or {@link ReadOnlyMixture#getName generated}
      * if this Mixture has been {@link Mixture#react reacted}.
@@ -80,6 +121,11 @@ public class ReadOnlyMixture {
      */
     protected Map<Molecule, Float> states;
 
+    /**
+     * Whether this is a shared {@link ReadOnlyMixture#readSnapshot snapshot}, in which case it may not be modified.
+     */
+    private boolean immutable;
+
     public ReadOnlyMixture() {
         translationKey = "";
     
@@ -91,24 +137,51 @@ public class ReadOnlyMixture {
     };
 
     /**
-     * Converts this Mixture into a storeable String that can be {@link ReadOnlyMixture#readNBT parsed back} into a Mixture.
+     * Converts this Mixture into a storeable Compound Tag that can be {@link ReadOnlyMixture#readNBT parsed back} into a Mixture.
+     * The contents are packed into a single byte array (see {@link ReadOnlyMixture#writeCompact}), as Mixtures get saved and synced very often.
+     * <p>The {@link ReadOnlyMixture#getColor color} is also stored separately, so things which just need to draw the Mixture don't have to decode it.</p>
      */
     public CompoundTag writeNBT() {
         CompoundTag compound = new CompoundTag();
-        if (translationKey != "" && translationKey != null) {
-            compound.putString("TranslationKey", translationKey);
-        };
-        compound.putFloat("Temperature", temperature);
-        compound.put("Contents", NBTHelper.writeCompoundList(contents.entrySet(), (entry) -> {
-            CompoundTag moleculeTag = new CompoundTag();
-            moleculeTag.putString("Molecule", entry.getKey().getFullID());
-            moleculeTag.putFloat("Concentration", entry.getValue());
-            moleculeTag.putFloat("Gaseous", states.get(entry.getKey()));
-            return moleculeTag;
-        }));
+        updateColor();
+        compound.putInt("Color", color);
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        buffer.writeVarInt(COMPACT_ENCODING_VERSION);
+        writeCompact(buffer);
+        byte[] bytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(bytes);
+        buffer.release();
+        compound.putByteArray("Compact", bytes);
         return compound;
     };
 
+    /**
+     * Write this Mixture in the compact encoding. This is the translation key, the temperature, then a table of the IDs of every {@link Molecule}
+     * (the {@link Formula#serialize FROWNS code} for novel Molecules), followed by all their concentrations and then all their states, in the same order as the table.
+     * <p>The Molecules are sorted by ID, so identical Mixtures always have identical encodings and can be recognised without decoding them.</p>
+     * @param buffer
+     */
+    protected void writeCompact(FriendlyByteBuf buffer) {
+        buffer.writeUtf(translationKey == null ? "" : translationKey);
+        buffer.writeFloat(temperature);
+        List<Molecule> molecules = new ArrayList<>(contents.keySet());
+        molecules.sort(Comparator.comparing(Molecule::getFullID));
+        buffer.writeVarInt(molecules.size());
+        for (Molecule molecule : molecules) buffer.writeUtf(molecule.getFullID());
+        for (Molecule molecule : molecules) buffer.writeFloat(contents.get(molecule));
+        for (Molecule molecule : molecules) {
+            float gaseous = states.getOrDefault(molecule, 0f);
+            if (gaseous == 0f) {
+                buffer.writeByte(LIQUID);
+            } else if (gaseous == 1f) {
+                buffer.writeByte(GASEOUS);
+            } else {
+                buffer.writeByte(PARTIALLY_GASEOUS);
+                buffer.writeFloat(gaseous);
+            };
+        };
+    };
+
     /**
      * Generates a Read-Only Mixture from the given Compound Tag.
      * @param compound
@@ -120,20 +193,108 @@ public class ReadOnlyMixture {
             Destroy.LOGGER.warn("Null Mixture read");
             return mixture;  
         };
-        mixture.translationKey = compound.getString("TranslationKey"); // Set to "" if the key is not present
-        if (compound.contains("Temperature")) mixture.temperature = compound.getFloat("Temperature");
-        ListTag contents = compound.getList("Contents", 10);
-        contents.forEach(tag -> {
-            CompoundTag moleculeTag = (CompoundTag) tag;
-            Molecule molecule = Molecule.getMolecule(moleculeTag.getString("Molecule"));
-            mixture.addMolecule(molecule, moleculeTag.getFloat("Concentration"));
-            mixture.states.put(molecule, moleculeTag.getFloat("Gaseous"));
-        });
+        mixture.read(compound);
         mixture.updateName();
         mixture.updateColor();
         return mixture;
     };
 
+    /**
+     * Fill this Mixture with the contents of the given Compound Tag, which may be either in the compact encoding or in the older layout of one Compound Tag per {@link Molecule}.
+     * @param compound
+     */
+    protected void read(CompoundTag compound) {
+        if (compound.contains("Compact", Tag.TAG_BYTE_ARRAY)) {
+            FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.wrappedBuffer(compound.getByteArray("Compact")));
+            int version = buffer.readVarInt();
+            if (version > COMPACT_ENCODING_VERSION) {
+                Destroy.LOGGER.warn("Could not read Mixture written with a newer encoding (version "+version+")");
+                return;
+            };
+            readCompact(buffer);
+        } else {
+            readLegacy(compound);
+        };
+    };
+
+    /**
+     * Fill this Mixture with the contents {@link ReadOnlyMixture#writeCompact written in the compact encoding}.
+     * @param buffer
+     */
+    protected void readCompact(FriendlyByteBuf buffer) {
+        translationKey = buffer.readUtf();
+        temperature = buffer.readFloat();
+        Molecule[] molecules = new Molecule[buffer.readVarInt()];
+        for (int i = 0; i < molecules.length; i++) molecules[i] = Molecule.getMolecule(buffer.readUtf());
+        float[] concentrations = new float[molecules.length];
+        for (int i = 0; i < molecules.length; i++) concentrations[i] = buffer.readFloat();
+        for (int i = 0; i < molecules.length; i++) {
+            byte state = buffer.readByte();
+            readMolecule(molecules[i], concentrations[i], state == PARTIALLY_GASEOUS ? buffer.readFloat() : (state == GASEOUS ? 1f : 0f));
+        };
+    };
+
+    /**
+     * Fill this Mixture with contents stored in the older layout, where each {@link Molecule} had its own Compound Tag.
+     * Mixtures in Recipe files and in old saves still use this layout.
+     * @param compound
+     */
+    protected void readLegacy(CompoundTag compound) {
+        translationKey = compound.getString("TranslationKey"); // Set to "" if the key is not present
+        if (compound.contains("Temperature")) temperature = compound.getFloat("Temperature");
+        ListTag contents = compound.getList("Contents", Tag.TAG_COMPOUND);
+        contents.forEach(tag -> {
+            CompoundTag moleculeTag = (CompoundTag) tag;
+            readMolecule(Molecule.getMolecule(moleculeTag.getString("Molecule")), moleculeTag.getFloat("Concentration"), moleculeTag.getFloat("Gaseous"));
+        });
+    };
+
+    /**
+     * Add a {@link Molecule} which has just been read to this Mixture.
+     * @param molecule May be {@code null} if the Molecule could not be found, in which case it is ignored
+     * @param concentration
+     * @param gaseous The proportion of the Molecule which is gaseous
+     */
+    protected void readMolecule(Molecule molecule, float concentration, float gaseous) {
+        if (molecule == null) return;
+        addMolecule(molecule, concentration);
+        states.put(molecule, gaseous);
+    };
+
+    /**
+     * Get a Read-Only Mixture representing the given Compound Tag, which is shared with every other caller reading an identical tag.
+     * Identical tags are only decoded once, which makes this much cheaper than {@link ReadOnlyMixture#readNBT reading} the Mixture
+     * when the same fluid is looked at over and over again (for example when rendering or tinting it).
+     * <p>The returned Mixture is immutable - if it needs to be changed, {@link ReadOnlyMixture#readNBT read} a new one instead.</p>
+     * @param compound
+     * @return A shared Read-Only Mixture instance
+     */
+    public static ReadOnlyMixture readSnapshot(CompoundTag compound) {
+        if (compound == null) return readNBT(compound);
+        ReadOnlyMixture snapshot = SNAPSHOTS.get(compound);
+        if (snapshot == null) {
+            snapshot = readNBT(compound);
+            snapshot.immutable = true;
+            SNAPSHOTS.put(compound.copy(), snapshot); // Copy the key in case the original tag gets modified later
+        };
+        return snapshot;
+    };
+
+    /**
+     * Discard all {@link ReadOnlyMixture#readSnapshot snapshots}, for example if the way in which Mixtures are named has changed.
+     */
+    public static void clearSnapshots() {
+        SNAPSHOTS.clear();
+    };
+
+    /**
+     * Stop Mixtures being {@link ReadOnlyMixture#updateName named} as soon as they change on the current thread, for example on worker threads
+     * which {@link com.petrolpark.destroy.recipe.ReactionInBasinSimulator simulate} Reactions. They get named when their name is first asked for instead.
+     */
+    public static void deferNamingOnThisThread() {
+        DEFER_NAMING.set(true);
+    };
+
     /**
      * The display name of this Mixture. This may be a custom name (if this Mixture comes from a Recipe), or {@link ReadOnlyMixture#getName generated}
      * if this Mixture has been {@link Mixture#react reacted}.
@@ -157,6 +318,7 @@ public class ReadOnlyMixture {
      * @param translationKey The full translation key of this Mixture, for example {@code destroy.mixture.brine}.
      */
     public void setTranslationKey(String translationKey) {
+        checkMutable();
         this.translationKey = translationKey;
     };
 
@@ -187,6 +349,49 @@ public class ReadOnlyMixture {
         }
     };
 
+    /**
+     * Checks that this Mixture contains a suitable concentration of the given {@link Molecule}, and that all other substances present are solvents or low-concentration impurities.
+     * This is used in Recipes.
+     * @param molecule Only known (non-novel) Molecules (i.e. those with a name space) will be detected
+     * @param concentration
+     * @param ignoreableMolecules Molecules other than solvents and low-concentration impurities that should be ignored should return {@code true}. The predicate can be {@code null} if there are no other Molecules that can be ignored
+     */
+    public boolean hasUsableMolecule(Molecule molecule, float concentration, @Nullable Predicate<Molecule> ignore) {
+        if (!contents.containsKey(molecule)) return false;
+        if (ignore == null) ignore = (m) -> false;
+        if (Math.abs(concentration - getConcentrationOf(molecule)) > IMPURITY_THRESHOLD) return false; //TODO replace with a more lenient check
+        for (Entry<Molecule, Float> otherMolecule : contents.entrySet()) {
+            if (ignore.test(otherMolecule.getKey())) continue; // If this molecule is specified as ignoreable, ignore it
+            if (otherMolecule.getKey() == molecule) continue; // If this is the Molecule we want, ignore it.
+            if (otherMolecule.getKey().hasTag(DestroyMolecules.Tags.SOLVENT)) continue; // If this is a solvent, ignore it
+            if (otherMolecule.getValue() < IMPURITY_THRESHOLD) continue; // If this impurity is in low-enough concentration, ignore it.
+            return false;
+        };
+        return true;
+    };
+
+    /**
+     * Checks that this Mixture contains a suitable concentration of {@link Molecule Molecules} with the given {@link MoleculeTag}, and that all other substances present are solvents
+     * or low-concentration impurities. This is used in Recipes.
+     * @param tag
+     * @param concentration
+     * @param ignore Molecules other than solvents and low-concentration impurities that should be ignored should return {@code true}. The predicate can be {@code null} if there are no other Molecules that can be ignored
+     */
+    public boolean hasUsableTaggedMolecules(MoleculeTag tag, float concentration, @Nullable Predicate<Molecule> ignore) {
+        if (ignore == null) ignore = (m) -> false;
+        float combinedConcentration = 0f;
+        for (Entry<Molecule, Float> entry : contents.entrySet()) {
+            if (ignore.test(entry.getKey())) continue; // If this Molecule is specified as ignoreable, ignore it.
+            if (entry.getKey().hasTag(tag)) {
+                combinedConcentration += entry.getValue(); // If this has the Tag, add it to the total
+                continue; // Then move on
+            };
+            if (entry.getKey().hasTag(DestroyMolecules.Tags.SOLVENT)) continue; // If this is a solvent, ignore it
+            if (entry.getValue() > IMPURITY_THRESHOLD) return false; // If this illegal impurity is in high-enough concentration, this Mixture is unsuitable
+        };
+        return (Math.abs(combinedConcentration - concentration) < IMPURITY_THRESHOLD); //TODO replace with a more lenient check
+    };
+
     /**
      * Get the combined concentration of every Molecule in this Mixture.
      * @return in moles per bucket
@@ -208,6 +413,7 @@ public class ReadOnlyMixture {
      * @return This Mixture
      */
     public ReadOnlyMixture addMolecule(Molecule molecule, float concentration) {
+        checkMutable();
 
         if (molecule == null || concentration == 0f) {
             return this;
@@ -272,6 +478,14 @@ public class ReadOnlyMixture {
         return tooltip;
     };
 
+    /**
+     * Make sure this Mixture is not a shared {@link ReadOnlyMixture#readSnapshot snapshot} before modifying it.
+     * @throws UnsupportedOperationException If this Mixture is a snapshot
+     */
+    protected void checkMutable() {
+        if (immutable) throw new UnsupportedOperationException("Cannot modify a shared Mixture snapshot");
+    };
+
     public void updateColor() {
         float totalColorContribution = 0f;
         float totalRed = 0;
@@ -293,10 +507,16 @@ public class ReadOnlyMixture {
 
     /**
      * Update the {@link ReadOnlyMixture#name name} of this Mixture to reflect what's in it.
+     * On threads where naming is {@link ReadOnlyMixture#deferNamingOnThisThread deferred}, the name is just forgotten, to be worked out when it is {@link ReadOnlyMixture#getName next needed}.
      */
     @OnlyIn(Dist.CLIENT)
     protected void updateName() {
 
+        if (DEFER_NAMING.get()) {
+            name = null;
+            return;
+        };
+
         if (translationKey != "") {
             name = Component.translatable(translationKey);
             return;
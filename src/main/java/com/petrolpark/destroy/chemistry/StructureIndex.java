@@ -0,0 +1,125 @@
+package com.petrolpark.destroy.chemistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import com.petrolpark.destroy.chemistry.Bond.BondType;
+
+/**
+ * A read-only index of a {@link Formula#structure structure}, built once so that {@link GroupFinder Group Finders} can ask what each {@link Atom} is
+ * {@link Bond bonded} to without scanning and copying its Bonds every time.
+ * <p>Every Atom's neighbours are stored in arrays grouped by {@link Element}, and the Atoms of the structure are themselves grouped by Element.
+ * Bonds to Atoms which are not in the structure are left out, just like {@link GroupFinder#bondedAtomsOfElementTo(Map, Atom, Element) the convenience methods} do.</p>
+ * <p>The index does not change if the structure does, so it should be thrown away as soon as the Groups have been found.</p>
+ */
+public class StructureIndex {
+
+    private final Map<Element, List<Atom>> atomsByElement;
+    private final Map<Atom, Neighbours> neighbours;
+
+    public StructureIndex(Map<Atom, List<Bond>> structure) {
+        atomsByElement = new EnumMap<>(Element.class);
+        neighbours = new HashMap<>(structure.size() * 2);
+        for (Atom atom : structure.keySet()) {
+            atomsByElement.computeIfAbsent(atom.getElement(), e -> new ArrayList<>()).add(atom);
+            neighbours.put(atom, new Neighbours(structure, structure.get(atom)));
+        };
+    };
+
+    /**
+     * Every {@link Atom} of the given {@link Element} in the structure.
+     */
+    public List<Atom> getAtomsOfElement(Element element) {
+        return atomsByElement.getOrDefault(element, Collections.emptyList());
+    };
+
+    /**
+     * How many {@link Atom Atoms} of the given {@link Element} are {@link Bond bonded} to the given Atom.
+     * @param atom
+     * @param element
+     * @param bondType The type of Bond to check for, or {@code null} to count Bonds of any type
+     */
+    public int count(Atom atom, Element element, @Nullable BondType bondType) {
+        Neighbours atomNeighbours = neighbours.get(atom);
+        int count = 0;
+        for (int i = atomNeighbours.start(element); i < atomNeighbours.atoms.length && atomNeighbours.atoms[i].getElement() == element; i++) {
+            if (bondType == null || atomNeighbours.bondTypes[i] == bondType) count++;
+        };
+        return count;
+    };
+
+    /**
+     * Get one of the {@link Atom Atoms} of the given {@link Element} {@link Bond bonded} to the given Atom.
+     * These are in the same order as the Bonds in the structure.
+     * @param atom
+     * @param element
+     * @param bondType The type of Bond to check for, or {@code null} to allow Bonds of any type
+     * @param n Which matching Atom to get, starting from {@code 0}
+     * @return The Atom, or {@code null} if there are not that many
+     */
+    @Nullable
+    public Atom get(Atom atom, Element element, @Nullable BondType bondType, int n) {
+        Neighbours atomNeighbours = neighbours.get(atom);
+        for (int i = atomNeighbours.start(element); i < atomNeighbours.atoms.length && atomNeighbours.atoms[i].getElement() == element; i++) {
+            if (bondType == null || atomNeighbours.bondTypes[i] == bondType) {
+                if (n == 0) return atomNeighbours.atoms[i];
+                n--;
+            };
+        };
+        return null;
+    };
+
+    /**
+     * Every {@link Atom} of the given {@link Element} {@link Bond bonded} to the given Atom. This creates a new List, so if only the number
+     * of Atoms is needed, use {@link StructureIndex#count count} instead.
+     * @param atom
+     * @param element
+     * @param bondType The type of Bond to check for, or {@code null} to allow Bonds of any type
+     */
+    public List<Atom> bondedAtomsOfElementTo(Atom atom, Element element, @Nullable BondType bondType) {
+        Neighbours atomNeighbours = neighbours.get(atom);
+        List<Atom> atoms = new ArrayList<>(2);
+        for (int i = atomNeighbours.start(element); i < atomNeighbours.atoms.length && atomNeighbours.atoms[i].getElement() == element; i++) {
+            if (bondType == null || atomNeighbours.bondTypes[i] == bondType) atoms.add(atomNeighbours.atoms[i]);
+        };
+        return atoms;
+    };
+
+    /**
+     * The {@link Atom Atoms} bonded to one Atom, sorted by {@link Element} but otherwise in the order of the Bonds.
+     */
+    private static class Neighbours {
+
+        private final Atom[] atoms;
+        private final BondType[] bondTypes;
+
+        private Neighbours(Map<Atom, List<Bond>> structure, List<Bond> bonds) {
+            List<Bond> bondsInStructure = new ArrayList<>(bonds.size());
+            for (Bond bond : bonds) {
+                if (structure.containsKey(bond.getDestinationAtom())) bondsInStructure.add(bond);
+            };
+            bondsInStructure.sort((b1, b2) -> Integer.compare(b1.getDestinationAtom().getElement().ordinal(), b2.getDestinationAtom().getElement().ordinal())); // This is stable so Bonds to the same Element stay in order
+            atoms = new Atom[bondsInStructure.size()];
+            bondTypes = new BondType[bondsInStructure.size()];
+            for (int i = 0; i < atoms.length; i++) {
+                atoms[i] = bondsInStructure.get(i).getDestinationAtom();
+                bondTypes[i] = bondsInStructure.get(i).getType();
+            };
+        };
+
+        /**
+         * The index of the first neighbour of the given {@link Element}, or of where it would be if there are none.
+         */
+        private int start(Element element) {
+            int i = 0;
+            while (i < atoms.length && atoms[i].getElement().ordinal() < element.ordinal()) i++;
+            return i;
+        };
+    };
+};
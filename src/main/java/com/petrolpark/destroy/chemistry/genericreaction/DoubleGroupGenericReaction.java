@@ -37,6 +37,15 @@ public abstract class DoubleGroupGenericReaction<FirstGroup extends Group<FirstG
      */
     public abstract Reaction generateReaction(GenericReactant<FirstGroup> firstReactant, GenericReactant<SecondGroup> secondReactant);
 
+    /**
+     * Get the Reaction for the given Molecules which have these Groups, only {@link DoubleGroupGenericReaction#generateReaction generating} it if it has not been generated recently.
+     * @return The whole Reaction, or {@code null} if the Reaction is impossible
+     * @throws com.petrolpark.destroy.chemistry.error.ChemistryException If the Reaction could not be generated
+     */
+    public final Reaction getOrGenerateReaction(GenericReactant<FirstGroup> firstReactant, GenericReactant<SecondGroup> secondReactant) {
+        return getOrGenerate(this, firstReactant, secondReactant, () -> generateReaction(firstReactant, secondReactant));
+    };
+
     @Override
     public final boolean involvesSingleGroup() {
         return false;
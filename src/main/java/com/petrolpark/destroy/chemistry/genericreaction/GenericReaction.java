@@ -1,16 +1,24 @@
 package com.petrolpark.destroy.chemistry.genericreaction;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
 
 import org.jetbrains.annotations.NotNull;
 
+import com.petrolpark.destroy.chemistry.Molecule;
 import com.petrolpark.destroy.chemistry.Reaction;
 import com.petrolpark.destroy.chemistry.Molecule.MoleculeBuilder;
 import com.petrolpark.destroy.chemistry.Reaction.ReactionBuilder;
 import com.petrolpark.destroy.chemistry.error.ChemistryException;
 
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
 
 public abstract class GenericReaction {
 
@@ -19,6 +27,27 @@ public abstract class GenericReaction {
      */
     public static Set<GenericReaction> GENERIC_REACTIONS = new HashSet<>();
 
+    /**
+     * The maximum number of {@link GenericReaction#getOrGenerate generated} Reactions which are remembered at once.
+     */
+    private static final int MAX_CACHED_REACTIONS = 4096;
+
+    /**
+     * Reactions which have already been generated (or which could not be generated), shared between every Mixture.
+     * This is access-ordered so that the least recently used Reaction is the one which gets forgotten.
+     */
+    private static final Map<GeneratedReactionKey, GeneratedReaction> GENERATED_REACTIONS = Collections.synchronizedMap(new LinkedHashMap<>(MAX_CACHED_REACTIONS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<GeneratedReactionKey, GeneratedReaction> eldest) {
+            return size() > MAX_CACHED_REACTIONS;
+        };
+    });
+
+    /**
+     * Forgets all {@link GenericReaction#getOrGenerate generated Reactions} when data packs are reloaded.
+     */
+    public static final ResourceManagerReloadListener RELOAD_LISTENER = resourceManager -> clearCache();
+
     /**
      * The identifier for this Generic Reaction, which JEI uses to find the title and description.
      */
@@ -48,6 +77,52 @@ public abstract class GenericReaction {
     @NotNull
     protected abstract Reaction generateExampleReaction();
 
+    /**
+     * Get the Reaction generated by the given Generic Reaction for the given Reactant(s), only actually generating it if it has not been generated recently.
+     * Reactions which could not be generated are remembered too, and throw a new {@link ChemistryException} with the same message each time.
+     * @param genericReaction
+     * @param firstReactant
+     * @param secondReactant {@code null} for {@link SingleGroupGenericReaction Single-Group Generic Reactions}
+     * @param generator Generates the Reaction if it is not remembered
+     * @return The generated Reaction, or {@code null} if it is impossible
+     */
+    protected static Reaction getOrGenerate(GenericReaction genericReaction, GenericReactant<?> firstReactant, @Nullable GenericReactant<?> secondReactant, Supplier<Reaction> generator) {
+        GeneratedReactionKey key = new GeneratedReactionKey(genericReaction, firstReactant.getMolecule().getFullID(), groupIndex(firstReactant), secondReactant == null ? "" : secondReactant.getMolecule().getFullID(), secondReactant == null ? -1 : groupIndex(secondReactant));
+        GeneratedReaction generatedReaction = GENERATED_REACTIONS.get(key);
+        // The Reaction refers to the actual Molecule objects, so it can only be reused for those very same objects
+        if (generatedReaction != null && generatedReaction.firstMolecule() == firstReactant.getMolecule() && (secondReactant == null || generatedReaction.secondMolecule() == secondReactant.getMolecule())) {
+            if (generatedReaction.failure() != null) throw genericReaction.new GenericReactionGenerationException(generatedReaction.failure()); // Don't re-throw the same exception, or its stack trace would be wherever it first failed
+            return generatedReaction.reaction();
+        };
+        Molecule secondMolecule = secondReactant == null ? null : secondReactant.getMolecule();
+        try {
+            Reaction reaction = generator.get();
+            GENERATED_REACTIONS.put(key, new GeneratedReaction(firstReactant.getMolecule(), secondMolecule, reaction, null));
+            return reaction;
+        } catch(ChemistryException e) {
+            GENERATED_REACTIONS.put(key, new GeneratedReaction(firstReactant.getMolecule(), secondMolecule, null, String.valueOf(e.getMessage()))); // Never null, so it can be told apart from a Reaction which is just impossible
+            throw e;
+        };
+    };
+
+    /**
+     * Which of its Molecule's functional Groups the given Reactant is, as a Molecule with multiple of the same Group generates a different Reaction for each.
+     */
+    private static int groupIndex(GenericReactant<?> reactant) {
+        return reactant.getMolecule().getFunctionalGroups().indexOf(reactant.getGroup());
+    };
+
+    /**
+     * Forget every {@link GenericReaction#getOrGenerate generated Reaction}.
+     */
+    public static void clearCache() {
+        GENERATED_REACTIONS.clear();
+    };
+
+    private static record GeneratedReactionKey(GenericReaction genericReaction, String firstMoleculeID, int firstGroupIndex, String secondMoleculeID, int secondGroupIndex) {};
+
+    private static record GeneratedReaction(Molecule firstMolecule, @Nullable Molecule secondMolecule, @Nullable Reaction reaction, @Nullable String failure) {};
+
     protected static MoleculeBuilder moleculeBuilder() {
         return new MoleculeBuilder("novel");
     };
@@ -29,6 +29,15 @@ public abstract class SingleGroupGenericReaction<G extends Group<G>> extends Gen
      */
     public abstract Reaction generateReaction(GenericReactant<G> reactant);
 
+    /**
+     * Get the Reaction for the given Molecule which has this Group, only {@link SingleGroupGenericReaction#generateReaction generating} it if it has not been generated recently.
+     * @return The whole Reaction, or {@code null} if the Reaction is impossible
+     * @throws com.petrolpark.destroy.chemistry.error.ChemistryException If the Reaction could not be generated
+     */
+    public final Reaction getOrGenerateReaction(GenericReactant<G> reactant) {
+        return getOrGenerate(this, reactant, null, () -> generateReaction(reactant));
+    };
+
     public final GroupType<G> getGroupType() {
         return type;
     };
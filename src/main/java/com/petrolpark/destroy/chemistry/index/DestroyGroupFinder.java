@@ -1,14 +1,17 @@
 package com.petrolpark.destroy.chemistry.index;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.petrolpark.destroy.chemistry.Atom;
 import com.petrolpark.destroy.chemistry.Bond;
 import com.petrolpark.destroy.chemistry.Element;
 import com.petrolpark.destroy.chemistry.Group;
 import com.petrolpark.destroy.chemistry.GroupFinder;
+import com.petrolpark.destroy.chemistry.StructureIndex;
 import com.petrolpark.destroy.chemistry.Bond.BondType;
 import com.petrolpark.destroy.chemistry.index.group.AcidAnhydrideGroup;
 import com.petrolpark.destroy.chemistry.index.group.AcylChlorideGroup;
@@ -24,92 +27,98 @@ import com.petrolpark.destroy.chemistry.index.group.NonTertiaryAmineGroup;
 
 public class DestroyGroupFinder extends GroupFinder {
 
+    /**
+     * The {@link Element Elements} which form {@link HalideGroup halides}, in the order their Groups are found.
+     */
+    private static final Element[] HALOGENS = new Element[]{Element.CHLORINE, Element.IODINE};
+
     @Override
     public List<Group<?>> findGroups(Map<Atom, List<Bond>> structure) {
+        return findGroups(structure, new StructureIndex(structure));
+    };
+
+    @Override
+    public List<Group<?>> findGroups(Map<Atom, List<Bond>> structure, StructureIndex index) {
 
         List<Group<?>> groups = new ArrayList<>();
 
-        List<Atom> carbonsToIgnore = new ArrayList<>();
-        List<Atom> carbonsToIgnoreForAlkenes = new ArrayList<>();
+        Set<Atom> carbonsToIgnore = new HashSet<>();
+        Set<Atom> carbonsToIgnoreForAlkenes = new HashSet<>();
 
-        for (Atom carbon : structure.keySet()) {
+        for (Atom carbon : index.getAtomsOfElement(Element.CARBON)) {
 
-            if (carbon.getElement() != Element.CARBON || carbonsToIgnore.contains(carbon)) {
+            if (carbonsToIgnore.contains(carbon)) {
                 continue;
             };
 
-            List<Atom> carbonylOxygens = bondedAtomsOfElementTo(structure, carbon, Element.OXYGEN, BondType.DOUBLE);
-            List<Atom> singleBondOxygens = bondedAtomsOfElementTo(structure, carbon, Element.OXYGEN, BondType.SINGLE);
-            List<Atom> chlorines = bondedAtomsOfElementTo(structure, carbon, Element.CHLORINE, BondType.SINGLE);
-            List<Atom> halogens = new ArrayList<>(chlorines);
-            halogens.addAll(bondedAtomsOfElementTo(structure, carbon, Element.IODINE, BondType.SINGLE));
-            List<Atom> nitrogens = bondedAtomsOfElementTo(structure, carbon, Element.NITROGEN, BondType.SINGLE);
-            List<Atom> hydrogens = bondedAtomsOfElementTo(structure, carbon, Element.HYDROGEN, BondType.SINGLE);
-            List<Atom> carbons = bondedAtomsOfElementTo(structure, carbon, Element.CARBON, BondType.SINGLE);
-            List<Atom> alkeneCarbons = bondedAtomsOfElementTo(structure, carbon, Element.CARBON, BondType.DOUBLE);
-            List<Atom> nitrileNitrogens = bondedAtomsOfElementTo(structure, carbon, Element.NITROGEN, BondType.TRIPLE);
-            List<Atom> rGroups = bondedAtomsOfElementTo(structure, carbon, Element.R_GROUP);
-
-            if (carbonylOxygens.size() == 1) { // Ketones, aldehydes, esters, acids, acid anhydrides, acyl chlorides, amides
-                Atom carbonylOxygen = carbonylOxygens.get(0);
-                if (singleBondOxygens.size() == 1) { // Esters, carboxylic acids and acid anhydrides
-                    Atom alcoholOxygen = singleBondOxygens.get(0);
-                    if (bondedAtomsOfElementTo(structure, alcoholOxygen, Element.CARBON, BondType.SINGLE).size() == 2) { // Esters and acid anhydrides
-                        Atom otherCarbon = getCarbonBondedToOxygenWhichIsntThisCarbonInThisStructure(alcoholOxygen, carbon, structure);
-                        if (bondedAtomsOfElementTo(structure, otherCarbon, Element.OXYGEN, BondType.DOUBLE).size() == 1) { // Acid anhydride
-                            groups.add(new AcidAnhydrideGroup(carbon, carbonylOxygen, otherCarbon, bondedAtomsOfElementTo(structure, otherCarbon, Element.OXYGEN, BondType.DOUBLE).get(0), alcoholOxygen));
+            int carbonylOxygens = index.count(carbon, Element.OXYGEN, BondType.DOUBLE);
+            int singleBondOxygens = index.count(carbon, Element.OXYGEN, BondType.SINGLE);
+            int chlorines = index.count(carbon, Element.CHLORINE, BondType.SINGLE);
+            int nitrogens = index.count(carbon, Element.NITROGEN, BondType.SINGLE);
+            int carbons = index.count(carbon, Element.CARBON, BondType.SINGLE);
+
+            if (carbonylOxygens == 1) { // Ketones, aldehydes, esters, acids, acid anhydrides, acyl chlorides, amides
+                Atom carbonylOxygen = index.get(carbon, Element.OXYGEN, BondType.DOUBLE, 0);
+                if (singleBondOxygens == 1) { // Esters, carboxylic acids and acid anhydrides
+                    Atom alcoholOxygen = index.get(carbon, Element.OXYGEN, BondType.SINGLE, 0);
+                    if (index.count(alcoholOxygen, Element.CARBON, BondType.SINGLE) == 2) { // Esters and acid anhydrides
+                        Atom otherCarbon = getCarbonBondedToOxygenWhichIsntThisCarbonInThisStructure(alcoholOxygen, carbon, index);
+                        if (index.count(otherCarbon, Element.OXYGEN, BondType.DOUBLE) == 1) { // Acid anhydride
+                            groups.add(new AcidAnhydrideGroup(carbon, carbonylOxygen, otherCarbon, index.get(otherCarbon, Element.OXYGEN, BondType.DOUBLE, 0), alcoholOxygen));
                         } else { // Ester
                             groups.add(new EsterGroup(carbon, otherCarbon, carbonylOxygen, alcoholOxygen));
                         };
                         carbonsToIgnore.add(otherCarbon);
                         continue;
-                    } else if (bondedAtomsOfElementTo(structure, alcoholOxygen, Element.HYDROGEN, BondType.SINGLE).size() == 1) { //Carboxylic Acid
-                        groups.add(new CarboxylicAcidGroup(carbon, carbonylOxygen, alcoholOxygen, bondedAtomsOfElementTo(structure, alcoholOxygen, Element.HYDROGEN, BondType.SINGLE).get(0)));
+                    } else if (index.count(alcoholOxygen, Element.HYDROGEN, BondType.SINGLE) == 1) { //Carboxylic Acid
+                        groups.add(new CarboxylicAcidGroup(carbon, carbonylOxygen, alcoholOxygen, index.get(alcoholOxygen, Element.HYDROGEN, BondType.SINGLE, 0)));
                         continue;
                     };
                 } else { // Ketones, aldehydes, acyl chlorides, amides
-                     if (nitrogens.size() == 1) { // Amide
-                        List<Atom> amideHydrogens = bondedAtomsOfElementTo(structure, nitrogens.get(0), Element.HYDROGEN);
-                        if (amideHydrogens.size() == 2) {
-                            groups.add(new UnsubstitutedAmideGroup(carbon, carbonylOxygen, nitrogens.get(0), amideHydrogens.get(0), amideHydrogens.get(1)));
+                     if (nitrogens == 1) { // Amide
+                        Atom nitrogen = index.get(carbon, Element.NITROGEN, BondType.SINGLE, 0);
+                        if (index.count(nitrogen, Element.HYDROGEN, null) == 2) {
+                            groups.add(new UnsubstitutedAmideGroup(carbon, carbonylOxygen, nitrogen, index.get(nitrogen, Element.HYDROGEN, null, 0), index.get(nitrogen, Element.HYDROGEN, null, 1)));
                             continue;
                         };
-                     } else if (chlorines.size() == 1) {
-                        groups.add(new AcylChlorideGroup(carbon, carbonylOxygen, chlorines.get(0)));
+                     } else if (chlorines == 1) {
+                        groups.add(new AcylChlorideGroup(carbon, carbonylOxygen, index.get(carbon, Element.CHLORINE, BondType.SINGLE, 0)));
                         continue;
                      } else {
-                        if (carbons.size() == 2) {
+                        if (carbons == 2) {
                             groups.add(new CarbonylGroup(carbon, carbonylOxygen, true));
-                        } else if (carbons.size() + hydrogens.size() + rGroups.size() == 2) {
+                        } else if (carbons + index.count(carbon, Element.HYDROGEN, BondType.SINGLE) + index.count(carbon, Element.R_GROUP, null) == 2) {
                             groups.add(new CarbonylGroup(carbon, carbonylOxygen, false));
                         };
                      }
                 };
             } else { // Alcohols, halides, nitriles, amines
-                for (Atom halogen : halogens) {
-                    groups.add(new HalideGroup(carbon, halogen, carbons.size()));
+                for (Element halogen : HALOGENS) {
+                    for (Atom halogenAtom : index.bondedAtomsOfElementTo(carbon, halogen, BondType.SINGLE)) {
+                        groups.add(new HalideGroup(carbon, halogenAtom, carbons));
+                    };
                 };
-                for (Atom oxygen : singleBondOxygens) { // Alcohols
-                    if (bondedAtomsOfElementTo(structure, oxygen, Element.HYDROGEN).size() == 1) {
-                        groups.add(new AlcoholGroup(carbon, oxygen, bondedAtomsOfElementTo(structure, oxygen, Element.HYDROGEN).get(0), carbons.size()));
+                if (singleBondOxygens > 0) for (Atom oxygen : index.bondedAtomsOfElementTo(carbon, Element.OXYGEN, BondType.SINGLE)) { // Alcohols
+                    if (index.count(oxygen, Element.HYDROGEN, null) == 1) {
+                        groups.add(new AlcoholGroup(carbon, oxygen, index.get(oxygen, Element.HYDROGEN, null, 0), carbons));
                     };
                 };
-                for (Atom nitrogen : nitrogens) { // Primary and secondary amines
-                    for (Atom hydrogen : bondedAtomsOfElementTo(structure, nitrogen, Element.HYDROGEN)) {
+                if (nitrogens > 0) for (Atom nitrogen : index.bondedAtomsOfElementTo(carbon, Element.NITROGEN, BondType.SINGLE)) { // Primary and secondary amines
+                    for (Atom hydrogen : index.bondedAtomsOfElementTo(nitrogen, Element.HYDROGEN, null)) {
                         groups.add(new NonTertiaryAmineGroup(carbon, nitrogen, hydrogen));
                     };
                 };
 
                 // Nitriles
-                if (nitrileNitrogens.size() == 1 && carbons.size() == 1) {
-                    groups.add(new NitrileGroup(carbon, nitrileNitrogens.get(0)));
+                if (carbons == 1 && index.count(carbon, Element.NITROGEN, BondType.TRIPLE) == 1) {
+                    groups.add(new NitrileGroup(carbon, index.get(carbon, Element.NITROGEN, BondType.TRIPLE, 0)));
                 };
             };
 
-            addAllAlkenes: for (Atom alkeneCarbon : alkeneCarbons) {
+            if (index.count(carbon, Element.CARBON, BondType.DOUBLE) > 0) addAllAlkenes: for (Atom alkeneCarbon : index.bondedAtomsOfElementTo(carbon, Element.CARBON, BondType.DOUBLE)) {
                 if (carbonsToIgnoreForAlkenes.contains(alkeneCarbon)) continue addAllAlkenes;
-                int firstCarbonDegree = bondedAtomsOfElementTo(structure, carbon, Element.CARBON).size() - 1;
-                int secondCarbonDegree = bondedAtomsOfElementTo(structure, alkeneCarbon, Element.CARBON).size() - 1;
+                int firstCarbonDegree = index.count(carbon, Element.CARBON, null) - 1;
+                int secondCarbonDegree = index.count(alkeneCarbon, Element.CARBON, null) - 1;
                 // If the two Carbons have the same degree, then there are two alkene Groups
                 if (firstCarbonDegree >= secondCarbonDegree) {
                     groups.add(new AlkeneGroup(carbon, alkeneCarbon));
@@ -129,13 +138,12 @@ public class DestroyGroupFinder extends GroupFinder {
      * Who needs JavaDocs when you explain everything perfectly in the method identifier?
      * @param oxygen The oxygen bonded to both the carbons
      * @param carbon The carbon we don't want
-     * @param structure The structure in which all of these silly little Atoms are
+     * @param index The index of the structure in which all of these silly little Atoms are
      * @return The carbon we do want
      */
-    private Atom getCarbonBondedToOxygenWhichIsntThisCarbonInThisStructure(Atom oxygen, Atom carbon, Map<Atom, List<Bond>> structure) { //clear method names are my passion
-        List<Atom> carbonsBondedToOxygen = bondedAtomsOfElementTo(structure, oxygen, Element.CARBON); //get both the carbons
-        carbonsBondedToOxygen.remove(carbon); //remove the carbonyl one
-        return carbonsBondedToOxygen.get(0);
+    private Atom getCarbonBondedToOxygenWhichIsntThisCarbonInThisStructure(Atom oxygen, Atom carbon, StructureIndex index) { //clear method names are my passion
+        Atom firstCarbon = index.get(oxygen, Element.CARBON, null, 0); //get both the carbons
+        return firstCarbon == carbon ? index.get(oxygen, Element.CARBON, null, 1) : firstCarbon; //ignore the carbonyl one
     };
 
     public static void register() {
@@ -2,7 +2,7 @@ package com.petrolpark.destroy.chemistry.serializer;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -16,13 +16,13 @@ public class Node {
     public Boolean visited;
     private List<Edge> edges;
     private Branch branch;
-    private Map<Branch, BondType> sideBranches;
+    private Map<Branch, BondType> sideBranches; // Kept in the order they're added, which is the order they're serialized in
 
     public Node(Atom atom) {
         this.atom = atom;
         visited = false;
         edges = new ArrayList<>();
-        sideBranches = new HashMap<>();
+        sideBranches = new LinkedHashMap<>();
     };
 
     public String serialize() {
@@ -7,6 +7,7 @@ import com.petrolpark.destroy.util.PollutionHelper;
 
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
+import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
 import net.minecraftforge.server.command.EnumArgument;
 
@@ -27,19 +28,19 @@ public class PollutionCommand {
     };
 
     private int queryLevelPollution(CommandSourceStack source, PollutionType pollutionType) {
-        int pollutionLevel = PollutionHelper.getPollution(source.getLevel(), pollutionType);
+        int pollutionLevel = PollutionHelper.getPollution(source.getLevel(), BlockPos.containing(source.getPosition()), pollutionType);
         source.sendSuccess(() ->  Component.translatable("commands.destroy.pollution.query", pollutionType.name(), pollutionLevel), true);
         return pollutionLevel;
     };
 
     private int setLevelPollution(CommandSourceStack source, PollutionType pollutionType, int value) {
-        int pollutionLevel = PollutionHelper.setPollution(source.getLevel(), pollutionType, value);
+        int pollutionLevel = PollutionHelper.setPollution(source.getLevel(), BlockPos.containing(source.getPosition()), pollutionType, value);
         source.sendSuccess(() ->  Component.translatable("commands.destroy.pollution.set", pollutionType.name(), pollutionLevel), true);
         return pollutionLevel;
     };
 
     private int addLevelPollution(CommandSourceStack source, PollutionType pollutionType, int change) {
-        int pollutionLevel = PollutionHelper.changePollution(source.getLevel(), pollutionType, change);
+        int pollutionLevel = PollutionHelper.changePollution(source.getLevel(), BlockPos.containing(source.getPosition()), pollutionType, change);
         source.sendSuccess(() ->  Component.translatable("commands.destroy.pollution.set", pollutionType.name(), pollutionLevel), true);
         return pollutionLevel;
     };
@@ -7,6 +7,7 @@ import java.util.function.Supplier;
 
 import org.apache.commons.lang3.tuple.Pair;
 
+import com.electronwill.nightconfig.core.CommentedConfig;
 import com.simibubi.create.infrastructure.config.AllConfigs;
 
 import net.minecraftforge.common.ForgeConfigSpec;
@@ -38,16 +39,32 @@ public class DestroyAllConfigs extends AllConfigs {
 		return config;
     };
 
-    public static void register(ModLoadingContext context) {
+    private static void createAll() {
 		CLIENT = register(DestroyClientConfigs::new, ModConfig.Type.CLIENT);
 		COMMON = register(DestroyCommonConfigs::new, ModConfig.Type.COMMON);
 		SERVER = register(DestroyServerConfigs::new, ModConfig.Type.SERVER);
+    };
+
+    public static void register(ModLoadingContext context) {
+		createAll();
 
 		for (Entry<ModConfig.Type, DestroyConfigBase> pair : CONFIGS.entrySet()) {
 			context.registerConfig(pair.getKey(), pair.getValue().specification);
         };
 	};
 
+    /**
+     * Create every config with its default values, held in memory rather than loaded from a file, without registering anything with Forge.
+     * This is only for running Destroy's chemistry outside of the game, such as in the benchmarks.
+     */
+    public static void createInMemory() {
+		createAll();
+
+		for (DestroyConfigBase config : CONFIGS.values()) {
+			config.specification.setConfig(CommentedConfig.inMemory());
+        };
+    };
+
     @SubscribeEvent
 	public static void onLoad(ModConfigEvent.Loading event) {
 		for (DestroyConfigBase config : CONFIGS.values()) {
@@ -0,0 +1,24 @@
+package com.petrolpark.destroy.config;
+
+public class DestroyChemistryConfigs extends DestroyConfigBase {
+
+    public final ConfigBool adaptiveKinetics = b(false, "adaptiveKinetics", Comments.adaptiveKinetics);
+
+    public final ConfigGroup basins = group(0, "basins", Comments.basins);
+    public final ConfigBool asynchronousBasinReactions = b(true, "asynchronousBasinReactions", Comments.asynchronousBasinReactions);
+    public final ConfigInt basinSimulationThreads = i(2, 1, 16, "basinSimulationThreads", Comments.basinSimulationThreads);
+    
+    @Override
+    public String getName() {
+        return "chemistry";
+    };
+
+    private static class Comments {
+
+        static String
+        adaptiveKinetics = "Whether Mixtures reacting in Basins and quiescent Vats are simulated many ticks at a time where their Reactions allow it, rather than one tick at a time. This is much faster for Mixtures with both very fast and very slow Reactions.",
+        basins = "Reactions in Basins",
+        asynchronousBasinReactions = "Whether the Reactions in Basins are worked out away from the main server thread. The Basin waits a few ticks for the result instead of stalling the server while it is worked out.",
+        basinSimulationThreads = "How many threads work out Reactions in Basins at once, if they are worked out away from the main server thread. Changes take effect when the server restarts.";
+    };
+}
@@ -1,5 +1,6 @@
 package com.petrolpark.destroy.config;
 
+import com.petrolpark.destroy.fluid.MixtureFluid;
 import com.petrolpark.destroy.util.DestroyLang.TemperatureUnit;
 
 public class DestroyClientChemistryConfigs extends DestroyConfigBase {
@@ -13,6 +14,12 @@ public class DestroyClientChemistryConfigs extends DestroyConfigBase {
         return "clientChemistry";
     };
 
+    @Override
+    public void onReload() {
+        super.onReload();
+        MixtureFluid.clearNames(); // Mixtures might now need to be named differently
+    };
+
     private static class Comments {
         static String
         iupacNames = "Show IUPAC systematic names rather than common names",
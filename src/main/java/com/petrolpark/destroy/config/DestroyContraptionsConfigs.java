@@ -9,6 +9,8 @@ public class DestroyContraptionsConfigs extends DestroyConfigBase {
 
     public final ConfigGroup vat = group(0, "vat", Comments.vat);
     public final ConfigBool vatExplodesAtHighPressure = b(true, "vatExplodesAtHighPressure", Comments.vatExplodesAtHighPressure);
+    public final ConfigInt vatFluidSyncInterval = i(10, 1, 200, "vatFluidSyncInterval", Comments.vatFluidSyncInterval);
+    public final ConfigInt vatMaxTickInterval = i(20, 1, 200, "vatMaxTickInterval", Comments.vatMaxTickInterval);
     
     
     @Override
@@ -23,6 +25,8 @@ public class DestroyContraptionsConfigs extends DestroyConfigBase {
         dynamo = "Dynamo",
         dynamoBulkCharging = "Whether Dynamos can charge multiple Item Stacks at once.",
         vat = "Vat",
-        vatExplodesAtHighPressure = "Whether Vats explode if the pressure exceeds the maximum of the weakest block.";
+        vatExplodesAtHighPressure = "Whether Vats explode if the pressure exceeds the maximum of the weakest block.",
+        vatFluidSyncInterval = "How many ticks a reacting Vat waits between writing its Mixture back to its Fluid and sending it to clients. The Mixture is always written when the Vat is saved or drained. Set to 1 to write it every tick.",
+        vatMaxTickInterval = "The most ticks a Vat whose contents are barely changing waits between updates, simulating all the ticks in between at once. Vats update every tick again as soon as Items, Fluids, heating or UV change. Set to 1 to update every Vat every tick.";
     };
 }
@@ -3,6 +3,7 @@ package com.petrolpark.destroy.config;
 public class DestroyPollutionConfigs extends DestroyConfigBase {
 
     public final ConfigBool enablePollution = b(true, "enablePollution", Comments.enablePollution);
+    public final ConfigInt pollutionSyncInterval = i(20, 1, 1200, "pollutionSyncInterval", Comments.pollutionSyncInterval);
 
     public final ConfigGroup configGroup = group(0, Comments.visualChanges);
     public final ConfigBool smog = b(true, "smog", Comments.smog);
@@ -16,6 +17,12 @@ public class DestroyPollutionConfigs extends DestroyConfigBase {
     public final ConfigBool rainBreaksBlocks = b(true, "rainBreaksBlocks", Comments.rainBreaksBlocks);
     public final ConfigBool temperatureAffected = b(true, "temperatureAffected", Comments.temperatureAffected);
     public final ConfigBool ozoneDepletionGivesCancer = b(true, "ozoneDepletionGivesCancer", Comments.ozoneDepletionGivesCancer);
+
+    public final ConfigGroup regions = group(0, Comments.regions);
+    public final ConfigBool regionalPollution = b(false, "regionalPollution", Comments.regionalPollution);
+    public final ConfigInt regionsDiffusedPerTick = i(16, 1, 1024, "regionsDiffusedPerTick", Comments.regionsDiffusedPerTick);
+    public final ConfigInt diffusionPercentage = i(5, 0, 25, "diffusionPercentage", Comments.diffusionPercentage);
+    public final ConfigInt regionSyncRadius = i(2, 0, 8, "regionSyncRadius", Comments.regionSyncRadius);
     
     @Override
 	public String getName() {
@@ -25,6 +32,7 @@ public class DestroyPollutionConfigs extends DestroyConfigBase {
     private static class Comments {
         static String
         enablePollution = "Releasing chemicals increases pollution",
+        pollutionSyncInterval = "The number of ticks between sending changes in pollution to players. Lower values keep the sky and fog more up to date but use more network traffic",
 
         visualChanges = "Visual Changes",
         smog = "The sky and grass turn browner the higher the Smog level",
@@ -37,6 +45,12 @@ public class DestroyPollutionConfigs extends DestroyConfigBase {
         growingAffected = "Crops are less likely to grow the higher the Smog, Greenhouse Gas and Acid Rain levels",
         rainBreaksBlocks = "Rain is more likely to kill plants and grass the higher the Acid Rain level",
         temperatureAffected = "Outdoor temperature (which affects Distillation Towers and Vats) increases with Greenhouse Gas and Ozone Depletion levels",
-        ozoneDepletionGivesCancer = "The likelihood of getting the cancer awareness pop-up from the sun increases with the Ozone Depletion level";
+        ozoneDepletionGivesCancer = "The likelihood of getting the cancer awareness pop-up from the sun increases with the Ozone Depletion level",
+
+        regions = "Regional Pollution",
+        regionalPollution = "Pollution is kept in regions of 4x4 chunks around where it was released and spreads out slowly, rather than affecting the whole world at once",
+        regionsDiffusedPerTick = "The most regions in which Pollution spreads and dies away each tick. Lower this if a very polluted world lags",
+        diffusionPercentage = "The percentage of the difference in Pollution between neighbouring regions which spreads across each time a region is ticked",
+        regionSyncRadius = "How many regions in each direction around a player they are told the Pollution of";
     };
 };
@@ -4,6 +4,7 @@ public class DestroyServerConfigs extends DestroyConfigBase {
 
     public final ConfigGroup infrastructure = group(0, "infrastructure", Comments.infrastructure);
     public final DestroyContraptionsConfigs contraptions = nested(0, DestroyContraptionsConfigs::new, Comments.contraptions);
+    public final DestroyChemistryConfigs chemistry = nested(0, DestroyChemistryConfigs::new, Comments.chemistry);
     
     @Override
     public String getName() {
@@ -13,5 +14,6 @@ public class DestroyServerConfigs extends DestroyConfigBase {
     private static class Comments {
         static String infrastructure = "Behind the magic";
         static String contraptions = "Destroy's processing machines";
+        static String chemistry = "How Mixtures are simulated";
     };
 }
@@ -7,7 +7,6 @@ import org.apache.commons.lang3.mutable.MutableObject;
 import com.jozufozu.flywheel.util.Color;
 import com.petrolpark.destroy.block.renderer.BlockEntityBehaviourRenderer;
 import com.petrolpark.destroy.capability.level.pollution.ClientLevelPollutionData;
-import com.petrolpark.destroy.capability.level.pollution.LevelPollution;
 import com.petrolpark.destroy.capability.level.pollution.LevelPollution.PollutionType;
 import com.petrolpark.destroy.client.gui.button.OpenDestroyMenuButton;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
@@ -60,10 +59,10 @@ public class DestroyClientEvents {
     public static void renderFog(RenderFog event) {
         if (!DestroyClientEvents.smogEnabled()) return;
         if (event.getType() == FogType.NONE) {
-            LevelPollution levelPollution = ClientLevelPollutionData.getLevelPollution();
-            if (levelPollution == null) return;
-            event.scaleNearPlaneDistance(1f - (0.8f * (float)levelPollution.get(PollutionType.SMOG) / (float)PollutionType.SMOG.max));
-            event.scaleFarPlaneDistance(1f - (0.5f * (float)levelPollution.get(PollutionType.SMOG) / (float)PollutionType.SMOG.max));
+            if (ClientLevelPollutionData.getLevelPollution() == null) return;
+            float smog = (float)ClientLevelPollutionData.getPollution(PollutionType.SMOG) / (float)PollutionType.SMOG.max;
+            event.scaleNearPlaneDistance(1f - (0.8f * smog));
+            event.scaleFarPlaneDistance(1f - (0.5f * smog));
             event.setCanceled(true);
         };
     };
@@ -75,10 +74,9 @@ public class DestroyClientEvents {
     public static void colorFog(ComputeFogColor event) {
         if (!DestroyClientEvents.smogEnabled()) return;
         if (event.getCamera().getFluidInCamera() == FogType.NONE) {
-            LevelPollution levelPollution = ClientLevelPollutionData.getLevelPollution();
-            if (levelPollution == null) return;
+            if (ClientLevelPollutionData.getLevelPollution() == null) return;
             Color existing = new Color(event.getRed(), event.getGreen(), event.getBlue(), 1f);
-            Color color = Color.mixColors(existing, BROWN, 0.8f * (float)levelPollution.get(PollutionType.SMOG) / (float)PollutionType.SMOG.max);
+            Color color = Color.mixColors(existing, BROWN, 0.8f * (float)ClientLevelPollutionData.getPollution(PollutionType.SMOG) / (float)PollutionType.SMOG.max);
             event.setRed(color.getRedAsFloat());
             event.setGreen(color.getGreenAsFloat());
             event.setBlue(color.getBlueAsFloat());
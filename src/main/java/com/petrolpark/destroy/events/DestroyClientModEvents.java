@@ -6,9 +6,9 @@ import javax.annotation.Nullable;
 
 import com.petrolpark.destroy.Destroy;
 import com.petrolpark.destroy.capability.level.pollution.ClientLevelPollutionData;
-import com.petrolpark.destroy.capability.level.pollution.LevelPollution;
 import com.petrolpark.destroy.capability.level.pollution.LevelPollution.PollutionType;
 import com.petrolpark.destroy.chemistry.naming.SaltNameOverrides;
+import com.petrolpark.destroy.fluid.MixtureFluid;
 import com.simibubi.create.foundation.utility.Color;
 
 import net.minecraft.client.color.block.BlockColor;
@@ -33,6 +33,7 @@ public class DestroyClientModEvents {
     @SubscribeEvent
     public static void registerClientReloadListeners(RegisterClientReloadListenersEvent event) {
         event.registerReloadListener(SaltNameOverrides.MANAGER);
+        event.registerReloadListener(MixtureFluid.NAME_RELOAD_LISTENER);
     };
 
 
@@ -79,16 +80,15 @@ public class DestroyClientModEvents {
 
         @Override
         public int getColor(BlockState state, @Nullable BlockAndTintGetter level, @Nullable BlockPos pos, int tintIndex) {
-            return level != null && pos != null ? withSmogTint(originalColor.getColor(state, level, pos, tintIndex)) : originalColor.getColor(state, level, pos, tintIndex);
+            return level != null && pos != null ? withSmogTint(originalColor.getColor(state, level, pos, tintIndex), pos) : originalColor.getColor(state, level, pos, tintIndex);
         };
         
     };
 
-    private static int withSmogTint(int color) {
+    private static int withSmogTint(int color, BlockPos pos) {
         // Refresh the Smog Level
         if (!DestroyClientEvents.smogEnabled()) return color;
-        LevelPollution levelPollution = ClientLevelPollutionData.getLevelPollution();
-        smogProportion = levelPollution == null ? 0f : (float) levelPollution.get(PollutionType.SMOG) / PollutionType.SMOG.max;
+        smogProportion = (float) ClientLevelPollutionData.getPollution(pos, PollutionType.SMOG) / PollutionType.SMOG.max;
         return Color.mixColors(color, brown, smogProportion);
     };
 };
@@ -20,6 +20,7 @@ import com.petrolpark.destroy.capability.player.babyblue.PlayerBabyBlueAddiction
 import com.petrolpark.destroy.capability.player.babyblue.PlayerBabyBlueAddictionProvider;
 import com.petrolpark.destroy.capability.player.previousposition.PlayerPreviousPositions;
 import com.petrolpark.destroy.capability.player.previousposition.PlayerPreviousPositionsProvider;
+import com.petrolpark.destroy.chemistry.genericreaction.GenericReaction;
 import com.petrolpark.destroy.chemistry.naming.SaltNameOverrides;
 import com.petrolpark.destroy.commands.BabyBlueAddictionCommand;
 import com.petrolpark.destroy.commands.CrudeOilCommand;
@@ -32,6 +33,8 @@ import com.petrolpark.destroy.item.SyringeItem;
 import com.petrolpark.destroy.network.DestroyMessages;
 import com.petrolpark.destroy.network.packet.LevelPollutionS2CPacket;
 import com.petrolpark.destroy.network.packet.SeismometerSpikeS2CPacket;
+import com.petrolpark.destroy.recipe.MixtureRecipeIndex;
+import com.petrolpark.destroy.recipe.ReactionInBasinSimulator;
 import com.petrolpark.destroy.sound.DestroySoundEvents;
 import com.petrolpark.destroy.util.ChemistryDamageHelper;
 import com.petrolpark.destroy.util.DestroyLang;
@@ -346,7 +349,7 @@ public class DestroyCommonEvents {
 
         // Give the Player cancer if in direct sunlight
         if (level.canSeeSky(posOn.above()) && !player.hasEffect(DestroyMobEffects.SUN_PROTECTION.get())) {
-            if (player.getRandom().nextInt(PollutionType.OZONE_DEPLETION.max * 600) < PollutionHelper.getPollution(level, PollutionType.OZONE_DEPLETION)) player.addEffect(DestroyMobEffects.cancerInstance());
+            if (player.getRandom().nextInt(PollutionType.OZONE_DEPLETION.max * 600) < PollutionHelper.getPollution(level, posOn, PollutionType.OZONE_DEPLETION)) player.addEffect(DestroyMobEffects.cancerInstance());
         };
     };
 
@@ -587,7 +590,7 @@ public class DestroyCommonEvents {
         if (!PollutionHelper.pollutionEnabled() || !DestroyAllConfigs.COMMON.pollution.breedingAffected.get()) return;
         Level level = event.getParentA().level();
         RandomSource random = event.getParentA().getRandom();
-        if (event.getParentA().getRandom().nextInt(PollutionType.SMOG.max) <= PollutionHelper.getPollution(level, PollutionType.SMOG)) { // 0% chance of failure for 0 smog, 100% chance for full smog
+        if (event.getParentA().getRandom().nextInt(PollutionType.SMOG.max) <= PollutionHelper.getPollution(level, event.getParentA().blockPosition(), PollutionType.SMOG)) { // 0% chance of failure for 0 smog, 100% chance for full smog
             if (level instanceof ServerLevel serverLevel) {
                 for (Mob parent : List.of(event.getParentA(), event.getParentB())) {
                     for(int i = 0; i < 7; ++i) {
@@ -607,7 +610,7 @@ public class DestroyCommonEvents {
         if (!PollutionHelper.pollutionEnabled() || !DestroyAllConfigs.COMMON.pollution.growingAffected.get()) return;
         if (!(event.getLevel() instanceof Level level)) return;
         for (PollutionType pollutionType : new PollutionType[]{PollutionType.SMOG, PollutionType.GREENHOUSE, PollutionType.ACID_RAIN}) {
-            if (level.random.nextInt(pollutionType.max) <= PollutionHelper.getPollution(level, pollutionType)) {
+            if (level.random.nextInt(pollutionType.max) <= PollutionHelper.getPollution(level, event.getPos(), pollutionType)) {
                 event.setResult(Result.DENY);
                 return;
             };
@@ -633,24 +636,32 @@ public class DestroyCommonEvents {
     @SubscribeEvent
     public static void onTreeGrown(SaplingGrowTreeEvent event) {
         if (!(event.getLevel() instanceof Level level)) return;
-        if (level.random.nextInt(3) == 0) PollutionHelper.changePollution(level, PollutionType.GREENHOUSE, -1);
-        if (level.random.nextInt(3) == 0) PollutionHelper.changePollution(level, PollutionType.SMOG, -1);
-        if (level.random.nextInt(3) == 0) PollutionHelper.changePollution(level, PollutionType.ACID_RAIN, -1);
+        if (level.random.nextInt(3) == 0) PollutionHelper.changePollution(level, event.getPos(), PollutionType.GREENHOUSE, -1);
+        if (level.random.nextInt(3) == 0) PollutionHelper.changePollution(level, event.getPos(), PollutionType.SMOG, -1);
+        if (level.random.nextInt(3) == 0) PollutionHelper.changePollution(level, event.getPos(), PollutionType.ACID_RAIN, -1);
     };
 
     /**
-     * Naturally decrease Pollution over time.
+     * Naturally decrease Pollution over time, and let {@link com.petrolpark.destroy.capability.level.pollution.PollutionRegions regional} Pollution spread out.
      */
     @SubscribeEvent
     public static void onTick(TickEvent.LevelTickEvent event) {
         for (PollutionType pollutionType : PollutionType.values()) {
             if (event.level.random.nextInt(100) == 0) PollutionHelper.changePollution(event.level, pollutionType, -1);
         };
+        if (event.phase == TickEvent.Phase.END && event.level instanceof ServerLevel serverLevel) {
+            PollutionHelper.tickRegions(serverLevel);
+            PollutionHelper.sendPollutionChanges(serverLevel);
+            PollutionHelper.sendEvaporations(serverLevel);
+        };
     };
 
     @SubscribeEvent
     public static void addReloadListeners(AddReloadListenerEvent event) {
         event.addListener(SaltNameOverrides.MANAGER);
+        event.addListener(ReactionInBasinSimulator.RELOAD_LISTENER);
+        event.addListener(MixtureRecipeIndex.RELOAD_LISTENER);
+        event.addListener(GenericReaction.RELOAD_LISTENER);
     };
 
     @EventBusSubscriber(bus = EventBusSubscriber.Bus.MOD)
@@ -1,5 +1,9 @@
 package com.petrolpark.destroy.fluid;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import javax.annotation.Nullable;
 
 import com.petrolpark.destroy.chemistry.Mixture;
@@ -9,15 +13,38 @@ import com.simibubi.create.AllFluids.TintedFluidType;
 import com.simibubi.create.content.fluids.VirtualFluid;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
 import net.minecraft.world.level.BlockAndTintGetter;
 import net.minecraft.world.level.material.FluidState;
 import net.minecraftforge.fluids.FluidStack;
 
 public class MixtureFluid extends VirtualFluid {
 
+    /**
+     * The maximum number of {@link MixtureFluid#getName names} which are remembered at once.
+     */
+    private static final int MAX_CACHED_NAMES = 1024;
+
+    /**
+     * The display names of Mixtures, mapped by the Compound Tag of the Mixture. Names depend on the language and on whether
+     * {@link com.petrolpark.destroy.config.DestroyClientChemistryConfigs#iupacNames IUPAC names} are used, so this is cleared if either changes.
+     */
+    private static final Map<CompoundTag, Component> NAMES = Collections.synchronizedMap(new LinkedHashMap<>(MAX_CACHED_NAMES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CompoundTag, Component> eldest) {
+            return size() > MAX_CACHED_NAMES;
+        };
+    });
+
+    /**
+     * Forgets all remembered names when resources (including the language) are reloaded.
+     */
+    public static final ResourceManagerReloadListener NAME_RELOAD_LISTENER = resourceManager -> clearNames();
+
     public MixtureFluid(Properties properties) {
         super(properties);
     };
@@ -82,7 +109,7 @@ public class MixtureFluid extends VirtualFluid {
 
         @Override
         public Component getDescription(FluidStack stack) {
-            return ReadOnlyMixture.readNBT(stack.getChildTag("Mixture")).getName();
+            return MixtureFluid.getName(stack.getChildTag("Mixture"));
         };
 
     };
@@ -90,7 +117,31 @@ public class MixtureFluid extends VirtualFluid {
     public static int getTintColor(FluidStack stack) {
         if (stack.isEmpty()) return 0x00FFFFFF; // Transparent
         if (!stack.getOrCreateTag().contains("Mixture", Tag.TAG_COMPOUND)) return -1;
-        return ReadOnlyMixture.readNBT(stack.getChildTag("Mixture")).getColor();
+        CompoundTag mixtureTag = stack.getChildTag("Mixture");
+        if (mixtureTag.contains("Color", Tag.TAG_INT)) return mixtureTag.getInt("Color"); // Use the color worked out when the Mixture was written, if there is one
+        return ReadOnlyMixture.readSnapshot(mixtureTag).getColor();
+    };
+
+    /**
+     * Get the display name of the Mixture stored in the given Compound Tag, which is only worked out once for each distinct Mixture.
+     * @param mixtureTag
+     */
+    public static Component getName(CompoundTag mixtureTag) {
+        if (mixtureTag == null) return ReadOnlyMixture.readSnapshot(mixtureTag).getName();
+        Component name = NAMES.get(mixtureTag);
+        if (name == null) {
+            name = ReadOnlyMixture.readSnapshot(mixtureTag).getName();
+            NAMES.put(mixtureTag.copy(), name); // Copy the key in case the original tag gets modified later
+        };
+        return name;
+    };
+
+    /**
+     * Forget every remembered {@link MixtureFluid#getName name} (and {@link ReadOnlyMixture#readSnapshot snapshot}, as those remember their names too).
+     */
+    public static void clearNames() {
+        NAMES.clear();
+        ReadOnlyMixture.clearSnapshots();
     };
 
     
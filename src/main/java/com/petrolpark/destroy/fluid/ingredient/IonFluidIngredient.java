@@ -2,8 +2,8 @@ package com.petrolpark.destroy.fluid.ingredient;
 
 import java.util.List;
 
-import com.petrolpark.destroy.chemistry.Mixture;
 import com.petrolpark.destroy.chemistry.Molecule;
+import com.petrolpark.destroy.chemistry.ReadOnlyMixture;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
 import com.petrolpark.destroy.util.DestroyLang;
 import com.simibubi.create.foundation.item.TooltipHelper;
@@ -20,7 +20,7 @@ public class IonFluidIngredient extends MoleculeFluidIngredient {
     };
 
     @Override
-    protected boolean testMixture(Mixture mixture) {
+    protected boolean testMixture(ReadOnlyMixture mixture) {
         return mixture.hasUsableMolecule(molecule, concentration, m -> m.getCharge() != 0 && Math.signum(m.getCharge()) != Math.signum(molecule.getCharge()));
     };
 
@@ -1,12 +1,18 @@
 package com.petrolpark.destroy.fluid.ingredient;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nullable;
 
 import com.petrolpark.destroy.chemistry.Mixture;
 import com.petrolpark.destroy.chemistry.Molecule;
+import com.petrolpark.destroy.chemistry.MoleculeTag;
+import com.petrolpark.destroy.chemistry.ReadOnlyMixture;
 import com.petrolpark.destroy.chemistry.index.DestroyMolecules;
 import com.petrolpark.destroy.fluid.DestroyFluids;
 import com.petrolpark.destroy.fluid.MixtureFluid;
@@ -28,6 +34,13 @@ public abstract class MixtureFluidIngredient extends FluidIngredient {
         registerMixtureFluidIngredientSubtype(new IonFluidIngredient());
     };
 
+    /**
+     * Whether each {@link ReadOnlyMixture#readSnapshot snapshot} this Ingredient has been tested against matched it. Recipe lookups test every
+     * Recipe against the same few Mixtures over and over again. As snapshots are shared between identical Mixtures, this remembers the result for
+     * every Mixture with those contents, and entries are forgotten along with the snapshot.
+     */
+    private final Map<ReadOnlyMixture, Boolean> testedMixtures = Collections.synchronizedMap(new WeakHashMap<>());
+
     public static void registerMixtureFluidIngredientSubtype(MixtureFluidIngredient mixtureFluidIngredient) {
         MIXTURE_FLUID_INGREDIENT_SUBTYPES.put(mixtureFluidIngredient.getMixtureFluidIngredientSubtype(), mixtureFluidIngredient);
     };
@@ -37,7 +50,7 @@ public abstract class MixtureFluidIngredient extends FluidIngredient {
         if (!(fluidStack.getFluid().getFluidType() == DestroyFluids.MIXTURE.getType())) return false; // If it's not a Mixture
         CompoundTag mixtureTag = fluidStack.getChildTag("Mixture");
         if (mixtureTag.isEmpty()) return false; // If this Mixture Fluid has no associated Mixture
-        return testMixture(Mixture.readNBT(mixtureTag));
+        return testedMixtures.computeIfAbsent(ReadOnlyMixture.readSnapshot(mixtureTag), this::testMixture); // Only decode the Molecules, as the Reactions aren't needed to check concentrations
     };
 
     @Override
@@ -52,10 +65,34 @@ public abstract class MixtureFluidIngredient extends FluidIngredient {
 
     public abstract MixtureFluidIngredient getNew();
 
-    protected abstract boolean testMixture(Mixture mixture);
+    /**
+     * Whether the given Mixture can be used for this Ingredient. This should only depend on the contents of the Mixture, as the result is remembered.
+     * @param mixture A shared {@link ReadOnlyMixture#readSnapshot snapshot} which must not be modified
+     */
+    protected abstract boolean testMixture(ReadOnlyMixture mixture);
 
     protected abstract String getMixtureFluidIngredientSubtype();
 
+    /**
+     * Get the {@link Molecule Molecules}, at least one of which must be in a Mixture for it to match this Ingredient. This lets the
+     * {@link com.petrolpark.destroy.recipe.MixtureRecipeIndex Recipe index} skip Recipes which a Mixture could never match without testing them.
+     * @return {@code null} if this Ingredient can't be narrowed down by Molecule
+     */
+    @Nullable
+    public Collection<Molecule> getRequiredMolecules() {
+        return null;
+    };
+
+    /**
+     * Get a {@link MoleculeTag} which at least one {@link Molecule} in a Mixture must have for it to match this Ingredient.
+     * This is only checked if there are no {@link MixtureFluidIngredient#getRequiredMolecules required Molecules}.
+     * @return {@code null} if this Ingredient can't be narrowed down by Molecule Tag
+     */
+    @Nullable
+    public MoleculeTag getRequiredTag() {
+        return null;
+    };
+
     /**
      * Add data to the NBT of the Fluid Ingredient when it is displayed in JEI. The only use of this is to control the
      * {@link MixtureFluidIngredient#getDescription description}. Careful not to overwite the tags {@code Mixture} or 
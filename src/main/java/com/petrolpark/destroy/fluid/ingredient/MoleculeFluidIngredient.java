@@ -4,8 +4,8 @@ import java.util.Collection;
 import java.util.List;
 
 import com.google.gson.JsonObject;
-import com.petrolpark.destroy.chemistry.Mixture;
 import com.petrolpark.destroy.chemistry.Molecule;
+import com.petrolpark.destroy.chemistry.ReadOnlyMixture;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
 import com.petrolpark.destroy.util.DestroyLang;
 import com.simibubi.create.foundation.item.TooltipHelper;
@@ -57,10 +57,16 @@ public class MoleculeFluidIngredient extends MixtureFluidIngredient {
     };
 
     @Override
-    protected boolean testMixture(Mixture mixture) {
+    protected boolean testMixture(ReadOnlyMixture mixture) {
         return mixture.hasUsableMolecule(molecule, concentration, null);
     };
 
+    @Override
+    public Collection<Molecule> getRequiredMolecules() {
+        if (molecule == null) return List.of(); // Unknown Molecules can't be indexed
+        return List.of(molecule);
+    };
+
     @Override
     protected void readInternal(FriendlyByteBuf buffer) {
         molecule = Molecule.getMolecule(buffer.readUtf());
@@ -5,9 +5,9 @@ import java.util.Collection;
 import java.util.List;
 
 import com.google.gson.JsonObject;
-import com.petrolpark.destroy.chemistry.Mixture;
 import com.petrolpark.destroy.chemistry.Molecule;
 import com.petrolpark.destroy.chemistry.MoleculeTag;
+import com.petrolpark.destroy.chemistry.ReadOnlyMixture;
 import com.petrolpark.destroy.util.DestroyLang;
 import com.simibubi.create.foundation.item.TooltipHelper;
 import com.simibubi.create.foundation.item.TooltipHelper.Palette;
@@ -35,10 +35,16 @@ public class MoleculeTagFluidIngredient extends MixtureFluidIngredient {
     };
 
     @Override
-    protected boolean testMixture(Mixture mixture) {
+    protected boolean testMixture(ReadOnlyMixture mixture) {
         return mixture.hasUsableTaggedMolecules(tag, concentration, molecule -> molecule.getCharge() != 0);
     };
 
+    @Override
+    public MoleculeTag getRequiredTag() {
+        if (concentration < ReadOnlyMixture.IMPURITY_THRESHOLD) return null; // A Mixture with none of the tagged Molecules at all would be close enough
+        return tag;
+    };
+
     @Override
     protected String getMixtureFluidIngredientSubtype() {
         return "mixtureFluidWithTaggedMolecules";
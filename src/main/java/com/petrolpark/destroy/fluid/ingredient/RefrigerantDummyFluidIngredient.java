@@ -1,10 +1,12 @@
 package com.petrolpark.destroy.fluid.ingredient;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import com.google.gson.JsonObject;
-import com.petrolpark.destroy.chemistry.Mixture;
+import com.petrolpark.destroy.chemistry.Molecule;
+import com.petrolpark.destroy.chemistry.ReadOnlyMixture;
 import com.petrolpark.destroy.chemistry.index.DestroyMolecules;
 import com.petrolpark.destroy.util.DestroyLang;
 import com.simibubi.create.foundation.item.TooltipHelper;
@@ -26,10 +28,15 @@ public class RefrigerantDummyFluidIngredient extends MoleculeTagFluidIngredient
     };
 
     @Override
-    protected boolean testMixture(Mixture mixture) {
+    protected boolean testMixture(ReadOnlyMixture mixture) {
         return false; // This Ingredient should never be used in a Recipe
     };
 
+    @Override
+    public Collection<Molecule> getRequiredMolecules() {
+        return List.of(); // No Mixture can ever match this
+    };
+
     @Override
     protected String getMixtureFluidIngredientSubtype() {
         return "mixtureFluidWithRefrigerants";
@@ -5,8 +5,8 @@ import java.util.Collection;
 import java.util.List;
 
 import com.google.gson.JsonObject;
-import com.petrolpark.destroy.chemistry.Mixture;
 import com.petrolpark.destroy.chemistry.Molecule;
+import com.petrolpark.destroy.chemistry.ReadOnlyMixture;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
 import com.petrolpark.destroy.util.DestroyLang;
 import com.simibubi.create.foundation.item.TooltipHelper;
@@ -69,10 +69,17 @@ public class SaltFluidIngredient extends MixtureFluidIngredient {
     };
 
     @Override
-    protected boolean testMixture(Mixture mixture) {
+    protected boolean testMixture(ReadOnlyMixture mixture) {
         return mixture.hasUsableMolecule(cation, concentration * cation.getCharge(), (molecule) -> molecule == anion) && mixture.hasUsableMolecule(anion, concentration * -anion.getCharge(), (molecule) -> molecule == cation);
     };
 
+    @Override
+    public Collection<Molecule> getRequiredMolecules() {
+        if (cation != null) return List.of(cation); // Both Ions are required, so checking for one is enough
+        if (anion != null) return List.of(anion);
+        return List.of();
+    };
+
     @Override
     protected void readInternal(FriendlyByteBuf buffer) {
         cation = Molecule.getMolecule(buffer.readUtf());
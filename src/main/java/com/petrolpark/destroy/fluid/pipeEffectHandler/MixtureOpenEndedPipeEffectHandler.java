@@ -3,8 +3,6 @@ package com.petrolpark.destroy.fluid.pipeEffectHandler;
 import java.util.Random;
 
 import com.petrolpark.destroy.fluid.DestroyFluids;
-import com.petrolpark.destroy.network.DestroyMessages;
-import com.petrolpark.destroy.network.packet.EvaporatingFluidS2CPacket;
 import com.petrolpark.destroy.util.PollutionHelper;
 import com.simibubi.create.content.fluids.OpenEndedPipe;
 import com.simibubi.create.content.fluids.OpenEndedPipe.IEffectHandler;
@@ -22,8 +20,8 @@ public class MixtureOpenEndedPipeEffectHandler implements IEffectHandler {
 
     @Override
     public void applyEffects(OpenEndedPipe pipe, FluidStack fluid) {
-        PollutionHelper.pollute(pipe.getWorld(), fluid);
-        if (random.nextInt(20) == 0) DestroyMessages.sendToAllClients(new EvaporatingFluidS2CPacket(pipe.getOutputPos(), fluid));
+        PollutionHelper.pollute(pipe.getWorld(), fluid, pipe.getOutputPos());
+        if (random.nextInt(20) == 0) PollutionHelper.evaporate(pipe.getWorld(), pipe.getOutputPos(), fluid);
     };
     
 };
@@ -51,10 +51,18 @@ public abstract class BasinBlockEntityMixin implements IHaveHoveringInformation
     };
     
     /**
-     * Add the 'Basin too full' pop-up if a Basin will not be able to react.
+     * Add the 'Basin too full' pop-up if a Basin will not be able to react, or the 'Reacting' pop-up if it is still working out what will happen.
      */
     public boolean addToTooltip(List<Component> tooltip, boolean isPlayerSneaking) {
-        if (((BasinBlockEntity)(Object)this).getBehaviour(ExtendedBasinBehaviour.TYPE).tooFullToReact) {
+        ExtendedBasinBehaviour behaviour = ((BasinBlockEntity)(Object)this).getBehaviour(ExtendedBasinBehaviour.TYPE);
+        if (behaviour.simulating) {
+            DestroyLang.translate("tooltip.basin.simulating.title").style(ChatFormatting.GOLD).forGoggles(tooltip);
+            TooltipHelper.cutTextComponent(DestroyLang.translate("tooltip.basin.simulating").component(), TooltipHelper.Palette.GRAY_AND_WHITE).forEach(component -> {
+                DestroyLang.builder().add(component.copy()).forGoggles(tooltip);
+            });
+            return true;
+        };
+        if (behaviour.tooFullToReact) {
             DestroyLang.translate("tooltip.basin.too_full.title").style(ChatFormatting.GOLD).forGoggles(tooltip);
             TooltipHelper.cutTextComponent(DestroyLang.translate("tooltip.basin.too_full").component(), TooltipHelper.Palette.GRAY_AND_WHITE).forEach(component -> {
                 DestroyLang.builder().add(component.copy()).forGoggles(tooltip);
@@ -28,7 +28,7 @@ public class BlockMixin {
         for (Pair<BlockState, BlockPos> pair : List.of(Pair.of(level.getBlockState(pos.above()), pos.above()), Pair.of(state, pos))) { // As only solid (non-plant) Blocks on the surface are checked for weather, check the Block above as well
             if (state.isAir()) continue;
             if (!(DestroyBlockTags.ACID_RAIN_DESTRUCTIBLE.matches(pair.getFirst().getBlock()) || DestroyBlockTags.ACID_RAIN_DIRT_REPLACEABLE.matches(pair.getFirst().getBlock()))) continue;
-            if (level.random.nextInt(PollutionType.ACID_RAIN.max) <= PollutionHelper.getPollution(level, PollutionType.ACID_RAIN)) {
+            if (level.random.nextInt(PollutionType.ACID_RAIN.max) <= PollutionHelper.getPollution(level, pos, PollutionType.ACID_RAIN)) {
                 if (DestroyBlockTags.ACID_RAIN_DESTRUCTIBLE.matches(pair.getFirst().getBlock())) {
                     level.destroyBlock(pair.getSecond(), false);
                 } else if (DestroyBlockTags.ACID_RAIN_DIRT_REPLACEABLE.matches(pair.getFirst().getBlock()) && level.random.nextInt(10) == 0) {
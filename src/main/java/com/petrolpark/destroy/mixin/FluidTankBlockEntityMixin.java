@@ -3,6 +3,9 @@ package com.petrolpark.destroy.mixin;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
 import org.spongepowered.asm.mixin.gen.Invoker;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 import com.petrolpark.destroy.block.entity.behaviour.fluidTankBehaviour.GeniusFluidTankBehaviour.GeniusFluidTank;
 import com.simibubi.create.content.fluids.tank.FluidTankBlockEntity;
@@ -18,6 +21,18 @@ public abstract class FluidTankBlockEntityMixin {
         return new GeniusFluidTank(FluidTankBlockEntity.getCapacityMultiplier(), this::invokeOnFluidStackChanged);
     };
 
+    /**
+     * Mix everything piped into this Fluid Tank last tick, all at once, as {@link com.petrolpark.destroy.block.entity.behaviour.fluidTankBehaviour.GeniusFluidTankBehaviour Genius tank behaviours} do when they tick.
+     */
+    @Inject(
+        method = "tick()V",
+        at = @At("HEAD"),
+        remap = false
+    )
+    public void inTick(CallbackInfo ci) {
+        if (((FluidTankBlockEntity)(Object)this).getTankInventory() instanceof GeniusFluidTank tank) tank.mixPending();
+    };
+
     @Invoker("onFluidStackChanged")
     public abstract void invokeOnFluidStackChanged(FluidStack stack);
-};
+};
\ No newline at end of file
@@ -10,7 +10,6 @@ import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import com.jozufozu.flywheel.util.Color;
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.petrolpark.destroy.capability.level.pollution.ClientLevelPollutionData;
-import com.petrolpark.destroy.capability.level.pollution.LevelPollution;
 import com.petrolpark.destroy.capability.level.pollution.LevelPollution.PollutionType;
 import com.petrolpark.destroy.client.particle.TintedSplashParticle;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
@@ -104,8 +103,7 @@ public class LevelRendererMixin {
     };
 
     private Color getRainColor() {
-        LevelPollution levelPollution = ClientLevelPollutionData.getLevelPollution();
-        return new Color(Color.mixColors(0xFF3E5EB8, 0xFF00FF00, (float)levelPollution.get(PollutionType.ACID_RAIN) / (float)PollutionType.ACID_RAIN.max));
+        return new Color(Color.mixColors(0xFF3E5EB8, 0xFF00FF00, (float)ClientLevelPollutionData.getPollution(PollutionType.ACID_RAIN) / (float)PollutionType.ACID_RAIN.max));
     };
 
     private static boolean rainColorAffected() {
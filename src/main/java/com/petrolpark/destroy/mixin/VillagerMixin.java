@@ -45,7 +45,7 @@ public class VillagerMixin {
         if (!PollutionHelper.pollutionEnabled() || !DestroyAllConfigs.COMMON.pollution.villagersIncreasePrices.get()) return;
         Villager thisVillager = (Villager)(Object)this;
         for (MerchantOffer trade : thisVillager.getOffers()) {
-            int change = (int)(50d * (double)PollutionHelper.getPollution(thisVillager.level(), PollutionType.SMOG) / (double)PollutionType.SMOG.max);
+            int change = (int)(50d * (double)PollutionHelper.getPollution(thisVillager.level(), thisVillager.blockPosition(), PollutionType.SMOG) / (double)PollutionType.SMOG.max);
             trade.addToSpecialPriceDiff(change);
         };
     };
@@ -8,7 +8,9 @@ import com.petrolpark.destroy.network.packet.ChainCogwheelsC2SPacket;
 import com.petrolpark.destroy.network.packet.ChemicalPoisonS2CPacket;
 import com.petrolpark.destroy.network.packet.CryingS2CPacket;
 import com.petrolpark.destroy.network.packet.EvaporatingFluidS2CPacket;
+import com.petrolpark.destroy.network.packet.LevelPollutionChangesS2CPacket;
 import com.petrolpark.destroy.network.packet.LevelPollutionS2CPacket;
+import com.petrolpark.destroy.network.packet.RegionalPollutionS2CPacket;
 import com.petrolpark.destroy.network.packet.S2CPacket;
 import com.petrolpark.destroy.network.packet.SeismometerSpikeS2CPacket;
 import com.petrolpark.destroy.network.packet.SwissArmyKnifeToolC2SPacket;
@@ -16,6 +18,8 @@ import com.petrolpark.destroy.network.packet.SwissArmyKnifeToolC2SPacket;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraftforge.network.NetworkDirection;
 import net.minecraftforge.network.NetworkRegistry;
 import net.minecraftforge.network.PacketDistributor;
@@ -42,9 +46,11 @@ public class DestroyMessages {
 
         addS2CPacket(net, CryingS2CPacket.class, CryingS2CPacket::new);
         addS2CPacket(net, LevelPollutionS2CPacket.class, LevelPollutionS2CPacket::new);
+        addS2CPacket(net, LevelPollutionChangesS2CPacket.class, LevelPollutionChangesS2CPacket::new);
         addS2CPacket(net, EvaporatingFluidS2CPacket.class, EvaporatingFluidS2CPacket::new);
         addS2CPacket(net, SeismometerSpikeS2CPacket.class, SeismometerSpikeS2CPacket::new);
         addS2CPacket(net, ChemicalPoisonS2CPacket.class, ChemicalPoisonS2CPacket::new);
+        addS2CPacket(net, RegionalPollutionS2CPacket.class, RegionalPollutionS2CPacket::new);
 
         addC2SPacket(net, SwissArmyKnifeToolC2SPacket.class, SwissArmyKnifeToolC2SPacket::new);
         addC2SPacket(net, ChainCogwheelsC2SPacket.class, ChainCogwheelsC2SPacket::new);
@@ -78,7 +84,15 @@ public class DestroyMessages {
         INSTANCE.send(PacketDistributor.ALL.noArg(), message);
     };
 
+    public static void sendToClientsInLevel(S2CPacket message, Level level) {
+        INSTANCE.send(PacketDistributor.DIMENSION.with(level::dimension), message);
+    };
+
     public static void sendToClientsTrackingEntity(S2CPacket message, Entity trackedEntity) {
         INSTANCE.send(PacketDistributor.TRACKING_ENTITY.with(() -> trackedEntity), message);
     };
+
+    public static void sendToClientsTrackingChunk(S2CPacket message, LevelChunk chunk) {
+        INSTANCE.send(PacketDistributor.TRACKING_CHUNK.with(() -> chunk), message);
+    };
 }
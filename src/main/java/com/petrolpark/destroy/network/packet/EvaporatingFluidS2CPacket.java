@@ -1,42 +1,46 @@
 package com.petrolpark.destroy.network.packet;
 
+import java.util.List;
 import java.util.function.Supplier;
 
 import com.petrolpark.destroy.client.particle.DestroyParticleTypes;
 import com.petrolpark.destroy.client.particle.data.GasParticleData;
+import com.petrolpark.destroy.fluid.DestroyFluids;
+import com.petrolpark.destroy.fluid.MixtureFluid;
 import com.simibubi.create.foundation.utility.VecHelper;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.level.material.Fluid;
 import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.network.NetworkEvent;
 import net.minecraftforge.network.NetworkEvent.Context;
+import net.minecraftforge.registries.ForgeRegistries;
 
 /**
  * Summons evaporating Fluid Particles to simulate the emission of a gas.
+ * <p>Every {@link Evaporation} in one chunk in one tick is sent together, and only with what is needed to draw it - the whole
+ * Fluid Stack (which for {@link MixtureFluid Mixtures} includes the entire Mixture) isn't sent.</p>
  */
 public class EvaporatingFluidS2CPacket extends S2CPacket {
 
-    private BlockPos blockPos;
-    private FluidStack fluidStack;
+    private final List<Evaporation> evaporations;
 
-    public EvaporatingFluidS2CPacket(BlockPos pos, FluidStack stack) {
-        this.blockPos = pos;
-        this.fluidStack = stack;
+    public EvaporatingFluidS2CPacket(List<Evaporation> evaporations) {
+        this.evaporations = evaporations;
     };
 
     public EvaporatingFluidS2CPacket(FriendlyByteBuf buffer) {
-        blockPos = buffer.readBlockPos();
-        fluidStack = buffer.readFluidStack();
+        evaporations = buffer.readList(Evaporation::read);
     };
 
     @Override
     public void toBytes(FriendlyByteBuf buffer) {
-        buffer.writeBlockPos(blockPos);
-        buffer.writeFluidStack(fluidStack);
+        buffer.writeCollection(evaporations, (b, evaporation) -> evaporation.write(b));
     };
 
     @Override
@@ -45,14 +49,56 @@ public class EvaporatingFluidS2CPacket extends S2CPacket {
         NetworkEvent.Context context = supplier.get();
         context.enqueueWork(() -> {
             ClientLevel level = Minecraft.getInstance().level;
-            Vec3 center = VecHelper.getCenterOf(blockPos);
-            if (level == null || fluidStack.isEmpty()) return;
-            GasParticleData particleData = new GasParticleData(DestroyParticleTypes.EVAPORATION.get(), fluidStack);
-            for (int i = 0; i < 5; i++) {
-                level.addParticle(particleData, center.x, center.y, center.z, 0, 0.07D, 0);
+            if (level == null) return;
+            for (Evaporation evaporation : evaporations) {
+                FluidStack fluidStack = evaporation.getFluidStack();
+                if (fluidStack.isEmpty()) continue;
+                Vec3 center = VecHelper.getCenterOf(evaporation.blockPos());
+                GasParticleData particleData = new GasParticleData(DestroyParticleTypes.EVAPORATION.get(), fluidStack);
+                for (int i = 0; i < 5; i++) {
+                    level.addParticle(particleData, center.x, center.y, center.z, 0, 0.07D, 0);
+                };
             };
         });
         return true;
     };
-    
+
+    /**
+     * A Fluid evaporating at one position.
+     * @param blockPos Where the evaporation Particles should originate
+     * @param fluid
+     * @param color The tint of the Particles if the Fluid is a {@link MixtureFluid Mixture}, or {@code -1} otherwise
+     * @param amount How much Fluid is evaporating (in mB), which controls how long the Particles last
+     */
+    public static record Evaporation(BlockPos blockPos, Fluid fluid, int color, int amount) {
+
+        public static Evaporation of(BlockPos blockPos, FluidStack fluidStack) {
+            return new Evaporation(blockPos, fluidStack.getFluid(), DestroyFluids.isMixture(fluidStack) ? MixtureFluid.getTintColor(fluidStack) : -1, fluidStack.getAmount());
+        };
+
+        /**
+         * A Fluid Stack which looks the same as the one which evaporated.
+         */
+        public FluidStack getFluidStack() {
+            FluidStack fluidStack = new FluidStack(fluid, amount);
+            if (DestroyFluids.isMixture(fluid)) {
+                CompoundTag mixtureTag = new CompoundTag();
+                mixtureTag.putInt("Color", color); // The color is all that's needed to draw a Mixture
+                fluidStack.getOrCreateTag().put("Mixture", mixtureTag);
+            };
+            return fluidStack;
+        };
+
+        public void write(FriendlyByteBuf buffer) {
+            buffer.writeBlockPos(blockPos);
+            buffer.writeRegistryId(ForgeRegistries.FLUIDS, fluid);
+            buffer.writeInt(color);
+            buffer.writeVarInt(amount);
+        };
+
+        public static Evaporation read(FriendlyByteBuf buffer) {
+            return new Evaporation(buffer.readBlockPos(), buffer.readRegistryId(), buffer.readInt(), buffer.readVarInt());
+        };
+    };
+
 };
@@ -0,0 +1,59 @@
+package com.petrolpark.destroy.network.packet;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.petrolpark.destroy.capability.level.pollution.ClientLevelPollutionData;
+import com.petrolpark.destroy.capability.level.pollution.LevelPollution.PollutionType;
+import com.petrolpark.destroy.util.PollutionHelper;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+/**
+ * Updates the types of Pollution in the client's Level which have changed since they were last sent. All the changes
+ * in a Level are {@link PollutionHelper#sendPollutionChanges gathered up} and sent together at most once every few ticks.
+ * <p>This is a bitmask of the types which have changed, followed by the new value of each of those types as a varint. The new
+ * values are sent rather than the differences, so a client can never drift away from the server.</p>
+ */
+public class LevelPollutionChangesS2CPacket extends S2CPacket {
+
+    private static final PollutionType[] TYPES = PollutionType.values();
+
+    private final Map<PollutionType, Integer> changes;
+
+    /**
+     * @param changes The new value of each type of Pollution which has changed
+     */
+    public LevelPollutionChangesS2CPacket(Map<PollutionType, Integer> changes) {
+        this.changes = changes;
+    };
+
+    public LevelPollutionChangesS2CPacket(FriendlyByteBuf buffer) {
+        changes = new EnumMap<>(PollutionType.class);
+        int mask = buffer.readVarInt();
+        for (PollutionType pollutionType : TYPES) {
+            if ((mask & (1 << pollutionType.ordinal())) != 0) changes.put(pollutionType, buffer.readVarInt());
+        };
+    };
+
+    @Override
+    public void toBytes(FriendlyByteBuf buffer) {
+        int mask = 0;
+        for (PollutionType pollutionType : changes.keySet()) mask |= 1 << pollutionType.ordinal();
+        buffer.writeVarInt(mask);
+        for (PollutionType pollutionType : TYPES) {
+            if (changes.containsKey(pollutionType)) buffer.writeVarInt(changes.get(pollutionType));
+        };
+    };
+
+    @Override
+    public boolean handle(Supplier<NetworkEvent.Context> supplier) {
+        NetworkEvent.Context context = supplier.get();
+        context.enqueueWork(() -> {
+            ClientLevelPollutionData.updateLevelPollution(changes);
+        });
+        return true;
+    };
+};
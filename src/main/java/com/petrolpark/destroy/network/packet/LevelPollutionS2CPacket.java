@@ -4,11 +4,16 @@ import java.util.function.Supplier;
 
 import com.petrolpark.destroy.capability.level.pollution.ClientLevelPollutionData;
 import com.petrolpark.destroy.capability.level.pollution.LevelPollution;
+import com.petrolpark.destroy.capability.level.pollution.LevelPollution.PollutionType;
 
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.network.NetworkEvent;
 
+/**
+ * Sends every type of Pollution in a Level to a client, which is only needed when they join or change Level.
+ * After that, they are just sent {@link LevelPollutionChangesS2CPacket changes}.
+ * <p>Each type is one varint in order, rather than the {@link LevelPollution#saveNBTData NBT} used to save the Level Pollution.</p>
+ */
 public class LevelPollutionS2CPacket extends S2CPacket {
     
     private final LevelPollution levelPollution;
@@ -19,14 +24,16 @@ public class LevelPollutionS2CPacket extends S2CPacket {
 
     public LevelPollutionS2CPacket(FriendlyByteBuf buffer) {
         this.levelPollution = new LevelPollution();
-        levelPollution.loadNBTData(buffer.readNbt());
+        for (PollutionType pollutionType : PollutionType.values()) {
+            levelPollution.set(pollutionType, buffer.readVarInt());
+        };
     };
 
     @Override
     public void toBytes(FriendlyByteBuf buffer) {
-        CompoundTag tag = new CompoundTag();
-        levelPollution.saveNBTData(tag);
-        buffer.writeNbt(tag);
+        for (PollutionType pollutionType : PollutionType.values()) {
+            buffer.writeVarInt(levelPollution.get(pollutionType));
+        };
     };
     
     @Override
@@ -0,0 +1,81 @@
+package com.petrolpark.destroy.network.packet;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Supplier;
+
+import com.petrolpark.destroy.capability.level.pollution.ClientLevelPollutionData;
+import com.petrolpark.destroy.capability.level.pollution.PollutionRegions;
+import com.petrolpark.destroy.capability.level.pollution.LevelPollution.PollutionType;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+/**
+ * Updates the Pollution a client knows about in the {@link PollutionRegions regions} near it.
+ * <p>Only the types of Pollution which have changed in each region are sent: each region is its key, a bitmask of changed
+ * types, and then the new value of each of those types. A region with no bits set in its mask should be forgotten.</p>
+ */
+public class RegionalPollutionS2CPacket extends S2CPacket {
+
+    private static final PollutionType[] TYPES = PollutionType.values();
+
+    private final boolean reset;
+    private final Map<Long, int[]> changes;
+
+    /**
+     * @param reset Whether the client should forget about all the regions it already knows about
+     * @param changes See {@link PollutionRegions#getChangesToSend}
+     */
+    public RegionalPollutionS2CPacket(boolean reset, Map<Long, int[]> changes) {
+        this.reset = reset;
+        this.changes = changes;
+    };
+
+    public RegionalPollutionS2CPacket(FriendlyByteBuf buffer) {
+        reset = buffer.readBoolean();
+        int size = buffer.readVarInt();
+        changes = new HashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            long region = buffer.readLong();
+            int mask = buffer.readVarInt();
+            if (mask == 0) {
+                changes.put(region, null);
+                continue;
+            };
+            int[] changed = new int[TYPES.length];
+            for (int t = 0; t < TYPES.length; t++) {
+                changed[t] = (mask & (1 << t)) != 0 ? buffer.readVarInt() : -1;
+            };
+            changes.put(region, changed);
+        };
+    };
+
+    @Override
+    public void toBytes(FriendlyByteBuf buffer) {
+        buffer.writeBoolean(reset);
+        buffer.writeVarInt(changes.size());
+        for (Entry<Long, int[]> regionAndChanges : changes.entrySet()) {
+            buffer.writeLong(regionAndChanges.getKey());
+            int[] changed = regionAndChanges.getValue();
+            int mask = 0;
+            if (changed != null) for (int t = 0; t < TYPES.length; t++) {
+                if (changed[t] >= 0) mask |= 1 << t;
+            };
+            buffer.writeVarInt(mask);
+            if (changed != null) for (int t = 0; t < TYPES.length; t++) {
+                if (changed[t] >= 0) buffer.writeVarInt(changed[t]);
+            };
+        };
+    };
+
+    @Override
+    public boolean handle(Supplier<NetworkEvent.Context> supplier) {
+        NetworkEvent.Context context = supplier.get();
+        context.enqueueWork(() -> {
+            ClientLevelPollutionData.updateRegions(reset, changes);
+        });
+        return true;
+    };
+};
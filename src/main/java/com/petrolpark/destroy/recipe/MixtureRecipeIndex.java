@@ -0,0 +1,113 @@
+package com.petrolpark.destroy.recipe;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.petrolpark.destroy.chemistry.Molecule;
+import com.petrolpark.destroy.chemistry.MoleculeTag;
+import com.petrolpark.destroy.chemistry.ReadOnlyMixture;
+import com.petrolpark.destroy.fluid.DestroyFluids;
+import com.petrolpark.destroy.fluid.ingredient.MixtureFluidIngredient;
+import com.simibubi.create.foundation.recipe.RecipeFinder;
+
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * All the {@link SingleFluidRecipe Single Fluid Recipes} of one type, indexed by the {@link Molecule Molecules} and {@link MoleculeTag Molecule Tags}
+ * their {@link MixtureFluidIngredient Mixture Ingredients} {@link MixtureFluidIngredient#getRequiredMolecules require}. This means only the Recipes
+ * which a Mixture could possibly match need to have their Ingredients tested against it, rather than every Recipe of that type.
+ * <p>Like Create's {@link RecipeFinder}, each index is built the first time it is needed and is forgotten when data packs are reloaded.</p>
+ */
+public class MixtureRecipeIndex {
+
+    private static final Map<Object, MixtureRecipeIndex> INDICES = Collections.synchronizedMap(new HashMap<>());
+
+    /**
+     * Forgets all indices when data packs are reloaded.
+     */
+    public static final ResourceManagerReloadListener RELOAD_LISTENER = resourceManager -> INDICES.clear();
+
+    /**
+     * Every Recipe in this index, in the order {@link RecipeFinder} gave them. The sets of Recipes below are indices of this List.
+     */
+    private final List<Recipe<?>> recipes;
+
+    /**
+     * Recipes which don't need a Mixture, or whose Ingredients can't be narrowed down, so must always be tested.
+     */
+    private final BitSet recipesForAnyFluid;
+    private final BitSet recipesForAnyMixture;
+
+    private final Map<Molecule, BitSet> recipesByMolecule;
+    private final Map<MoleculeTag, BitSet> recipesByTag;
+
+    /**
+     * Get the Recipes of the given type which might be able to use the given Fluid Stack, in the same order as {@link RecipeFinder#get} would give them.
+     * These still need testing, but any Recipe left out definitely can't use the Fluid Stack.
+     * @param cacheKey A key unique to the thing looking up Recipes, as used by {@link RecipeFinder}
+     * @param level
+     * @param recipeType
+     * @param fluidStack
+     */
+    public static List<Recipe<?>> getCandidates(Object cacheKey, Level level, RecipeType<?> recipeType, FluidStack fluidStack) {
+        return INDICES.computeIfAbsent(cacheKey, key -> new MixtureRecipeIndex(RecipeFinder.get(key, level, r -> r.getType() == recipeType))).getCandidates(fluidStack);
+    };
+
+    protected MixtureRecipeIndex(List<Recipe<?>> recipes) {
+        this.recipes = recipes;
+        recipesForAnyFluid = new BitSet(recipes.size());
+        recipesForAnyMixture = new BitSet(recipes.size());
+        recipesByMolecule = new HashMap<>();
+        recipesByTag = new HashMap<>();
+
+        for (int i = 0; i < recipes.size(); i++) {
+            if (!(recipes.get(i) instanceof SingleFluidRecipe recipe) || recipe.getFluidIngredients().isEmpty() || !(recipe.getRequiredFluid() instanceof MixtureFluidIngredient ingredient)) {
+                recipesForAnyFluid.set(i);
+                continue;
+            };
+            Collection<Molecule> molecules = ingredient.getRequiredMolecules();
+            MoleculeTag tag = ingredient.getRequiredTag();
+            if (molecules != null) {
+                for (Molecule molecule : molecules) recipesByMolecule.computeIfAbsent(molecule, m -> new BitSet(recipes.size())).set(i);
+            } else if (tag != null) {
+                recipesByTag.computeIfAbsent(tag, t -> new BitSet(recipes.size())).set(i);
+            } else {
+                recipesForAnyMixture.set(i);
+            };
+        };
+    };
+
+    public List<Recipe<?>> getCandidates(FluidStack fluidStack) {
+        BitSet candidates = (BitSet)recipesForAnyFluid.clone();
+        if (DestroyFluids.isMixture(fluidStack)) { // Mixture Ingredients never match anything else
+            candidates.or(recipesForAnyMixture);
+            List<Molecule> molecules = ReadOnlyMixture.readSnapshot(fluidStack.getChildTag("Mixture")).getContents(false);
+            for (Molecule molecule : molecules) {
+                BitSet recipesForMolecule = recipesByMolecule.get(molecule);
+                if (recipesForMolecule != null) candidates.or(recipesForMolecule);
+            };
+            checkEachTag: for (Entry<MoleculeTag, BitSet> tagAndRecipes : recipesByTag.entrySet()) {
+                for (Molecule molecule : molecules) {
+                    if (molecule.hasTag(tagAndRecipes.getKey())) {
+                        candidates.or(tagAndRecipes.getValue());
+                        continue checkEachTag;
+                    };
+                };
+            };
+        };
+
+        List<Recipe<?>> candidateRecipes = new ArrayList<>(candidates.cardinality());
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) candidateRecipes.add(recipes.get(i));
+        return candidateRecipes;
+    };
+};
@@ -1,9 +1,12 @@
 package com.petrolpark.destroy.recipe;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import javax.annotation.Nullable;
 
@@ -15,6 +18,7 @@ import com.petrolpark.destroy.chemistry.ReactionResult;
 import com.petrolpark.destroy.chemistry.Mixture.Phases;
 import com.petrolpark.destroy.chemistry.reactionresult.CombinedReactionResult;
 import com.petrolpark.destroy.chemistry.reactionresult.PrecipitateReactionResult;
+import com.petrolpark.destroy.config.DestroyAllConfigs;
 import com.petrolpark.destroy.fluid.DestroyFluids;
 import com.petrolpark.destroy.fluid.MixtureFluid;
 import com.petrolpark.destroy.util.vat.IVatHeaterBlock;
@@ -23,9 +27,13 @@ import com.simibubi.create.content.processing.basin.BasinBlockEntity;
 import com.simibubi.create.content.processing.recipe.ProcessingRecipeBuilder;
 import com.simibubi.create.content.processing.recipe.ProcessingRecipeBuilder.ProcessingRecipeParams;
 import com.simibubi.create.foundation.fluid.FluidIngredient;
+import com.simibubi.create.foundation.utility.NBTHelper;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.util.Mth;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
@@ -36,15 +44,31 @@ public class ReactionInBasinRecipe extends MixingRecipe {
 
     private static final int BASIN_MAX_OUTPUT = 1000;
 
+    /**
+     * The outside temperature is rounded to the nearest multiple of this (in kelvins) before reacting, so that Basins in slightly different places
+     * (or at slightly different levels of pollution) can share {@link ReactionInBasinSimulator#simulate the same outcome}.
+     */
+    private static final float OUTSIDE_TEMPERATURE_RESOLUTION = 1f;
+
     public ReactionInBasinRecipe(ProcessingRecipeParams params) {
         super(params);
     };
 
+    /**
+     * Get the Recipe for reacting the contents of the given Basin, if there is one. The Reaction is {@link ReactionInBasinSimulator simulated}
+     * away from the main server thread, so until that has finished this returns {@code null} and the Basin shows that it is still working it out.
+     * Once it has finished, the Basin is told its contents have changed so this gets called again.
+     * @param availableFluids
+     * @param availableItems
+     * @param basin
+     */
     @Nullable
     public static ReactionInBasinRecipe create(Collection<FluidStack> availableFluids, Collection<ItemStack> availableItems, BasinBlockEntity basin) {
         ProcessingRecipeBuilder<ReactionInBasinRecipe> builder = new ProcessingRecipeBuilder<>(ReactionInBasinRecipe::new, Destroy.asResource("reaction_in_basin_"));
+        ExtendedBasinBehaviour behaviour = basin.getBehaviour(ExtendedBasinBehaviour.TYPE);
 
         List<ItemStack> availableItemsCopy = availableItems.stream().map(ItemStack::copy).filter(stack -> !stack.isEmpty()).toList();
+        List<FluidStack> availableFluidsCopy = availableFluids.stream().map(FluidStack::copy).toList();
 
         boolean canReact = true; // Start by assuming we will be able to React
 
@@ -53,10 +77,8 @@ public class ReactionInBasinRecipe extends MixingRecipe {
         Level level = basin.getLevel();
         BlockPos pos = basin.getBlockPos();
         float heatingPower = IVatHeaterBlock.getHeatingPower(level, pos.below(), Direction.UP);
-        float outsideTemperature = LevelPollution.getLocalTemperature(level, pos);
-
-        Map<Mixture, Double> mixtures = new HashMap<>(availableFluids.size()); // A Map of all available Mixtures to the volume of them available (in Buckets)
-        int totalAmount = 0; // How much Mixture there is
+        float outsideTemperature = Math.round(LevelPollution.getLocalTemperature(level, pos) / OUTSIDE_TEMPERATURE_RESOLUTION) * OUTSIDE_TEMPERATURE_RESOLUTION;
+        boolean adaptive = DestroyAllConfigs.SERVER.chemistry.adaptiveKinetics.get();
 
         // Check all Fluids are Mixturess
         for (FluidStack fluidStack : availableFluids) {
@@ -64,16 +86,36 @@ public class ReactionInBasinRecipe extends MixingRecipe {
                 canReact = false;
                 break;
             };
-            int amount = fluidStack.getAmount();
-            totalAmount += amount;
-            Mixture mixture = Mixture.readNBT(fluidStack.getOrCreateTag().getCompound("Mixture"));
-            mixtures.put(mixture, (double)amount / 1000d);
         };
 
         tryReact: if (canReact) {
-            // TODO modify temp according to Heat Level
-            Mixture mixture = Mixture.mix(mixtures);
-            ReactionInBasinResult result = mixture.reactInBasin(totalAmount, availableItemsCopy, heatingPower, outsideTemperature); // Mutably react the Mixture and change the Item Stacks
+
+            // Work out what the Mixture will react to form, or check if we already know
+            CompoundTag inputs = getSimulationInputs(availableFluidsCopy, availableItemsCopy, heatingPower, outsideTemperature, adaptive);
+            CompletableFuture<ReactionInBasinOutcome> simulation = behaviour.getSimulation(inputs);
+            if (simulation == null) {
+                simulation = ReactionInBasinSimulator.simulate(inputs, () -> simulate(availableFluidsCopy, availableItemsCopy, heatingPower, outsideTemperature, adaptive), level.getServer() != null);
+                behaviour.setSimulation(inputs, simulation);
+                if (!simulation.isDone()) simulation.thenRunAsync(() -> {
+                    if (!basin.isRemoved()) basin.notifyChangeOfContents(); // Look for this Recipe again once it is ready
+                }, level.getServer());
+            };
+
+            // If it's still being worked out, wait
+            if (!simulation.isDone()) {
+                canReact = false;
+                break tryReact;
+            };
+
+            ReactionInBasinOutcome outcome;
+            try {
+                outcome = simulation.join();
+            } catch(CompletionException e) {
+                Destroy.LOGGER.error("Could not react Mixture in Basin at "+pos.toShortString()+": ", e.getCause());
+                canReact = false;
+                break tryReact;
+            };
+            ReactionInBasinResult result = outcome.result();
 
             // If equilibrium was not disturbed, don't do anything else
             if (result.ticks() == 0) {
@@ -81,7 +123,7 @@ public class ReactionInBasinRecipe extends MixingRecipe {
                 break tryReact;
             };
 
-            Phases phases = mixture.separatePhases(result.amount());
+            Phases phases = outcome.phases();
 
             // Add the resultant Mixture to the results for this Recipe
             FluidStack outputMixtureStack = MixtureFluid.of((int)Math.round(phases.liquidVolume()), phases.liquidMixture());
@@ -99,9 +141,9 @@ public class ReactionInBasinRecipe extends MixingRecipe {
             builder.duration(duration);
 
             // Add the resultant Item Stacks to the results for this Recipe
-            availableItemsCopy.stream().forEach(stack -> {
+            outcome.remainingItems().stream().forEach(stack -> {
                 if (stack.isEmpty()) return;
-                builder.output(stack);
+                builder.output(stack.copy()); // Copy, as the same outcome might be used by multiple Basins
             });
 
             // Add all the given Fluid Stacks as "required ingredients"
@@ -116,12 +158,12 @@ public class ReactionInBasinRecipe extends MixingRecipe {
 
             gatherReactionResults(result.reactionresults(), reactionResults, builder); // Gather all 
 
-            ExtendedBasinBehaviour behaviour = basin.getBehaviour(ExtendedBasinBehaviour.TYPE);
             behaviour.setReactionResults(reactionResults); // Schedule the Reaction Results to occur once the Mixing has finished
             behaviour.evaporatedFluid = MixtureFluid.of((int)Math.round(phases.gasVolume()), phases.gasMixture());
         };
 
-        basin.getBehaviour(ExtendedBasinBehaviour.TYPE).tooFullToReact = isBasinTooFullToReact;
+        behaviour.tooFullToReact = isBasinTooFullToReact;
+        behaviour.simulating = behaviour.isSimulating();
         basin.sendData();
 
         if (!canReact) {
@@ -131,6 +173,51 @@ public class ReactionInBasinRecipe extends MixingRecipe {
         return builder.build();
     };
 
+    /**
+     * Mix and react the given Fluid Stacks, which must all be {@link DestroyFluids#isMixture Mixtures}. This does not touch the Level, so can be done on any thread.
+     * @param fluids
+     * @param items These will be modified
+     * @param heatingPower
+     * @param outsideTemperature
+     * @param adaptive Whether to use the {@link Mixture#reactForTicks adaptive integrator}
+     */
+    private static ReactionInBasinOutcome simulate(List<FluidStack> fluids, List<ItemStack> items, float heatingPower, float outsideTemperature, boolean adaptive) {
+        Map<Mixture, Double> mixtures = new HashMap<>(fluids.size()); // A Map of all available Mixtures to the volume of them available (in Buckets)
+        int totalAmount = 0; // How much Mixture there is
+        for (FluidStack fluidStack : fluids) {
+            int amount = fluidStack.getAmount();
+            totalAmount += amount;
+            Mixture mixture = Mixture.readNBT(fluidStack.getOrCreateTag().getCompound("Mixture"));
+            mixtures.put(mixture, (double)amount / 1000d);
+        };
+
+        // TODO modify temp according to Heat Level
+        Mixture mixture = Mixture.mixInto(mixtures);
+        ReactionInBasinResult result = mixture.reactInBasin(totalAmount, items, heatingPower, outsideTemperature, adaptive); // Mutably react the Mixture and change the Item Stacks
+        if (result.ticks() == 0) return new ReactionInBasinOutcome(result, null, items);
+        return new ReactionInBasinOutcome(result, mixture.separatePhases(result.amount()), items);
+    };
+
+    /**
+     * Everything which affects the outcome of {@link ReactionInBasinRecipe#simulate simulating} a Reaction in a Basin, so Basins with the same inputs can share the outcome.
+     * Mixtures are {@link com.petrolpark.destroy.chemistry.ReadOnlyMixture#writeCompact encoded} the same way whenever they have the same contents, and the Fluid and Item Stacks
+     * are sorted, so this is the same no matter which tanks and slots everything is in.
+     */
+    private static CompoundTag getSimulationInputs(List<FluidStack> fluids, List<ItemStack> items, float heatingPower, float outsideTemperature, boolean adaptive) {
+        CompoundTag tag = new CompoundTag();
+        tag.put("Fluids", sorted(NBTHelper.writeCompoundList(fluids, fluidStack -> fluidStack.writeToNBT(new CompoundTag()))));
+        tag.put("Items", sorted(NBTHelper.writeCompoundList(items, stack -> stack.save(new CompoundTag()))));
+        tag.putFloat("HeatingPower", heatingPower);
+        tag.putFloat("OutsideTemperature", outsideTemperature);
+        tag.putBoolean("Adaptive", adaptive);
+        return tag;
+    };
+
+    private static ListTag sorted(ListTag list) {
+        list.sort(Comparator.comparing(Tag::toString));
+        return list;
+    };
+
     private static void gatherReactionResults(Map<ReactionResult, Integer> resultsOfReaction, Map<ReactionResult, Integer> resultsToEnact, ProcessingRecipeBuilder<ReactionInBasinRecipe> builder) {
         for (ReactionResult reactionresult : resultsOfReaction.keySet()) {
             if (reactionresult instanceof CombinedReactionResult combinedResult) {
@@ -159,5 +246,13 @@ public class ReactionInBasinRecipe extends MixingRecipe {
      * @param amount The amount (in mB) of resultant Mixture
      */
     public static record ReactionInBasinResult(int ticks, Map<ReactionResult, Integer> reactionresults, int amount) {};
+
+    /**
+     * Everything needed to make a {@link ReactionInBasinRecipe} once its Reaction has been {@link ReactionInBasinSimulator simulated}.
+     * @param result
+     * @param phases The separated gas and liquid after reacting, or {@code null} if nothing happened
+     * @param remainingItems The Item Stacks left once any have been used up
+     */
+    public static record ReactionInBasinOutcome(ReactionInBasinResult result, @Nullable Phases phases, List<ItemStack> remainingItems) {};
     
 };
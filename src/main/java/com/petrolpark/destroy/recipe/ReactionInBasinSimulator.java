@@ -0,0 +1,127 @@
+package com.petrolpark.destroy.recipe;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.petrolpark.destroy.chemistry.ReadOnlyMixture;
+import com.petrolpark.destroy.config.DestroyAllConfigs;
+import com.petrolpark.destroy.recipe.ReactionInBasinRecipe.ReactionInBasinOutcome;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+
+/**
+ * Works out {@link ReactionInBasinRecipe Reactions in Basins} away from the main server thread.
+ * <p>Simulations run on a small pool of worker threads with a bounded queue. If the queue is full, the simulation is run straight away
+ * on the thread which asked for it, so Basins never wait forever. Basins asking about the same inputs at the same time (for example a row of Mixers
+ * all fed from one pipe) share a single simulation.</p>
+ * <p>Worker threads only ever copy shared {@link com.petrolpark.destroy.chemistry.Formula Formulae} (which is synchronized) and never name Mixtures, which is
+ * {@link ReadOnlyMixture#deferNamingOnThisThread left} until the name is needed on the main thread.</p>
+ * <p>As the outcome depends only on the inputs, finished outcomes are also remembered, so production lines reacting the same batch over and over
+ * only ever simulate it once. These are forgotten whenever data packs are reloaded, in case Reactions or tags have changed.</p>
+ */
+public class ReactionInBasinSimulator {
+
+    private static final int MAX_QUEUED_SIMULATIONS = 64;
+
+    /**
+     * The maximum number of finished outcomes which are remembered at once.
+     */
+    private static final int MAX_CACHED_OUTCOMES = 256;
+
+    /**
+     * Finished outcomes, mapped by the {@link ReactionInBasinRecipe#getSimulationInputs inputs} to them.
+     * This is access-ordered so that the least recently used outcome is the one which gets discarded.
+     */
+    private static final Map<CompoundTag, ReactionInBasinOutcome> OUTCOMES = Collections.synchronizedMap(new LinkedHashMap<>(MAX_CACHED_OUTCOMES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CompoundTag, ReactionInBasinOutcome> eldest) {
+            return size() > MAX_CACHED_OUTCOMES;
+        };
+    });
+
+    /**
+     * Forgets all remembered outcomes when data packs are reloaded.
+     */
+    public static final ResourceManagerReloadListener RELOAD_LISTENER = resourceManager -> clearCache();
+
+    /**
+     * Simulations which have been started but not yet finished, mapped by the {@link ReactionInBasinRecipe#getSimulationInputs inputs} to them.
+     */
+    private static final Map<CompoundTag, CompletableFuture<ReactionInBasinOutcome>> IN_FLIGHT = new ConcurrentHashMap<>();
+
+    private static ThreadPoolExecutor executor;
+
+    /**
+     * Get the outcome of reacting the given inputs, which may not have finished yet.
+     * @param inputs A description of everything which affects the outcome. This must not be modified afterwards.
+     * @param simulation Works out the outcome. This may be run on any thread.
+     * @param asynchronous Whether the simulation may be run away from this thread
+     */
+    public static CompletableFuture<ReactionInBasinOutcome> simulate(CompoundTag inputs, Supplier<ReactionInBasinOutcome> simulation, boolean asynchronous) {
+        ReactionInBasinOutcome knownOutcome = OUTCOMES.get(inputs);
+        if (knownOutcome != null) return CompletableFuture.completedFuture(knownOutcome); // We've already worked this out
+
+        if (!asynchronous || !DestroyAllConfigs.SERVER.chemistry.asynchronousBasinReactions.get()) {
+            CompletableFuture<ReactionInBasinOutcome> future = new CompletableFuture<>();
+            run(inputs, simulation, future);
+            return future;
+        };
+
+        CompletableFuture<ReactionInBasinOutcome> existingFuture = IN_FLIGHT.get(inputs);
+        if (existingFuture != null) return existingFuture; // Someone is already working this out
+
+        CompletableFuture<ReactionInBasinOutcome> future = new CompletableFuture<>();
+        existingFuture = IN_FLIGHT.putIfAbsent(inputs, future);
+        if (existingFuture != null) return existingFuture;
+
+        getExecutor().execute(() -> {
+            run(inputs, simulation, future);
+            IN_FLIGHT.remove(inputs, future);
+        });
+        return future;
+    };
+
+    /**
+     * Forget every remembered outcome.
+     */
+    public static void clearCache() {
+        OUTCOMES.clear();
+    };
+
+    private static void run(CompoundTag inputs, Supplier<ReactionInBasinOutcome> simulation, CompletableFuture<ReactionInBasinOutcome> future) {
+        try {
+            ReactionInBasinOutcome outcome = simulation.get();
+            OUTCOMES.put(inputs, outcome);
+            future.complete(outcome);
+        } catch(Throwable e) {
+            future.completeExceptionally(e);
+        };
+    };
+
+    private static synchronized ThreadPoolExecutor getExecutor() {
+        if (executor == null) {
+            int threads = DestroyAllConfigs.SERVER.chemistry.basinSimulationThreads.get();
+            AtomicInteger threadCount = new AtomicInteger();
+            executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(MAX_QUEUED_SIMULATIONS), runnable -> {
+                Thread thread = new Thread(() -> {
+                    ReadOnlyMixture.deferNamingOnThisThread(); // Naming reads the client config and language, so leave it for the main thread
+                    runnable.run();
+                }, "Destroy Basin Simulation #" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.CallerRunsPolicy()); // If there are too many Basins waiting, just work it out now
+            executor.allowCoreThreadTimeOut(true);
+        };
+        return executor;
+    };
+
+};
@@ -0,0 +1,175 @@
+package com.petrolpark.destroy.test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.petrolpark.destroy.chemistry.Formula;
+import com.petrolpark.destroy.chemistry.Molecule;
+import com.petrolpark.destroy.chemistry.index.DestroyGroupFinder;
+import com.petrolpark.destroy.chemistry.index.DestroyMolecules;
+import com.petrolpark.destroy.chemistry.index.DestroyTopologies;
+
+/**
+ * Checks that {@link Formula#serialize} gives every {@link DestroyMolecules registered Molecule} exactly the FROWNS code it always has.
+ * <p>Every Molecule must have its code pinned here, so adding a Molecule without one fails too. A {@code null} code means the Molecule
+ * can't be serialized at all (there's nothing left of Hydrogen and the proton once the Hydrogens are stripped), and it must keep throwing.</p>
+ */
+public class FROWNSSerializationTest {
+
+    private static final Map<String, String> EXPECTED_CODES = new HashMap<>();
+
+    static {
+        EXPECTED_CODES.put("destroy:acetamide", "destroy:linear:CC=(N)O");
+        EXPECTED_CODES.put("destroy:acetate", "destroy:linear:CC(=O)O");
+        EXPECTED_CODES.put("destroy:acetic_acid", "destroy:linear:CC(=O)O");
+        EXPECTED_CODES.put("destroy:acetic_anhydride", "destroy:linear:CC(=O)OC=(C)O");
+        EXPECTED_CODES.put("destroy:acetone", "destroy:linear:CC=(C)O");
+        EXPECTED_CODES.put("destroy:acetone_cyanohydrin", "destroy:linear:CC(C)(O)C#N");
+        EXPECTED_CODES.put("destroy:acrylonitrile", "destroy:linear:C=CC#N");
+        EXPECTED_CODES.put("destroy:adipic_acid", "destroy:linear:O=C(O)CCCCC(=O)O");
+        EXPECTED_CODES.put("destroy:adiponitrile", "destroy:linear:N#CCCCCC#N");
+        EXPECTED_CODES.put("destroy:aibn", "destroy:linear:CC(C)(C#N)N=NC(C)(C)C#N");
+        EXPECTED_CODES.put("destroy:ammonia", "destroy:linear:N");
+        EXPECTED_CODES.put("destroy:ammonium", "destroy:linear:N");
+        EXPECTED_CODES.put("destroy:aspirin", "destroy:benzene:OC=(C)O,C(=O)O,,,,");
+        EXPECTED_CODES.put("destroy:benzene", "destroy:benzene:,,,,,");
+        EXPECTED_CODES.put("destroy:benzyl_chloride", "destroy:benzene:CCl,,,,,");
+        EXPECTED_CODES.put("destroy:butadiene", "destroy:linear:C=CC=C");
+        EXPECTED_CODES.put("destroy:calcium_ion", "destroy:linear:Ca");
+        EXPECTED_CODES.put("destroy:carbon_dioxide", "destroy:linear:O=C=O");
+        EXPECTED_CODES.put("destroy:carbon_monoxide", "destroy:linear:C#O");
+        EXPECTED_CODES.put("destroy:carbon_tetrachloride", "destroy:linear:ClC(Cl)(Cl)Cl");
+        EXPECTED_CODES.put("destroy:chloride", "destroy:linear:Cl");
+        EXPECTED_CODES.put("destroy:chlorine", "destroy:linear:ClCl");
+        EXPECTED_CODES.put("destroy:chloroaurate", "destroy:linear:ClAu(Cl)(Cl)Cl");
+        EXPECTED_CODES.put("destroy:chlorodifluoromethane", "destroy:linear:FC(F)Cl");
+        EXPECTED_CODES.put("destroy:chloroform", "destroy:linear:ClC(Cl)Cl");
+        EXPECTED_CODES.put("destroy:cisplatin", "destroy:linear:NPt(N)(Cl)Cl");
+        EXPECTED_CODES.put("destroy:copper_i", "destroy:linear:Cu");
+        EXPECTED_CODES.put("destroy:copper_ii", "destroy:linear:Cu");
+        EXPECTED_CODES.put("destroy:cubane", "destroy:cubane:");
+        EXPECTED_CODES.put("destroy:cubanedicarboxylic_acid", "destroy:cubane:");
+        EXPECTED_CODES.put("destroy:cyanide", "destroy:linear:C#N");
+        EXPECTED_CODES.put("destroy:cyclohexene", "destroy:cyclohexene:");
+        EXPECTED_CODES.put("destroy:cyclopentadienide", "destroy:cyclopentadienide:,,,,");
+        EXPECTED_CODES.put("destroy:dichlorodifluoromethane", "destroy:linear:FC(F)(Cl)Cl");
+        EXPECTED_CODES.put("destroy:ethanol", "destroy:linear:CCO");
+        EXPECTED_CODES.put("destroy:ethene", "destroy:linear:C=C");
+        EXPECTED_CODES.put("destroy:ethylanthrahydroquinone", "destroy:anthracene:CC,,,O,,,,,O,");
+        EXPECTED_CODES.put("destroy:ethylanthraquinone", "destroy:anthraquinone:CC,,,O,,,,,O,");
+        EXPECTED_CODES.put("destroy:ethylbenzene", "destroy:benzene:CC,,,,,");
+        EXPECTED_CODES.put("destroy:fluoride", "destroy:linear:F");
+        EXPECTED_CODES.put("destroy:generic_acid_anhydride", "destroy:linear:RC(=O)OC=(R)O");
+        EXPECTED_CODES.put("destroy:generic_acyl_chloride", "destroy:linear:RC(=O)Cl");
+        EXPECTED_CODES.put("destroy:generic_alcohol", "destroy:linear:RC(R)(R)O");
+        EXPECTED_CODES.put("destroy:generic_alkene", "destroy:linear:RC=(R)C(R)R");
+        EXPECTED_CODES.put("destroy:generic_amide", "destroy:linear:RC=(N)O");
+        EXPECTED_CODES.put("destroy:generic_amine", "destroy:linear:RC(R)(R)N");
+        EXPECTED_CODES.put("destroy:generic_carbonyl", "destroy:linear:RC=(R)O");
+        EXPECTED_CODES.put("destroy:generic_carboxylic_acid", "destroy:linear:RC(=O)O");
+        EXPECTED_CODES.put("destroy:generic_chloride", "destroy:linear:RC(R)(R)Cl");
+        EXPECTED_CODES.put("destroy:generic_ester", "destroy:linear:ROC=(R)O");
+        EXPECTED_CODES.put("destroy:generic_nitrile", "destroy:linear:RC(R)(R)C#N");
+        EXPECTED_CODES.put("destroy:generic_primary_amine", "destroy:linear:RC(R)(R)NR");
+        EXPECTED_CODES.put("destroy:glycerol", "destroy:linear:OCC(O)CO");
+        EXPECTED_CODES.put("destroy:hexanediamine", "destroy:linear:NCCCCCCN");
+        EXPECTED_CODES.put("destroy:hydrazine", "destroy:linear:NN");
+        EXPECTED_CODES.put("destroy:hydrochloric_acid", "destroy:linear:Cl");
+        EXPECTED_CODES.put("destroy:hydrofluoric_acid", "destroy:linear:F");
+        EXPECTED_CODES.put("destroy:hydrogen", null);
+        EXPECTED_CODES.put("destroy:hydrogen_cyanide", "destroy:linear:C#N");
+        EXPECTED_CODES.put("destroy:hydrogen_iodide", "destroy:linear:I");
+        EXPECTED_CODES.put("destroy:hydrogen_peroxide", "destroy:linear:OO");
+        EXPECTED_CODES.put("destroy:hydrogensulfate", "destroy:linear:O=S(=O)(O)O");
+        EXPECTED_CODES.put("destroy:hydroxide", "destroy:linear:O");
+        EXPECTED_CODES.put("destroy:hypochlorite", "destroy:linear:OCl");
+        EXPECTED_CODES.put("destroy:hypochlorous_acid", "destroy:linear:OCl");
+        EXPECTED_CODES.put("destroy:iodide", "destroy:linear:I");
+        EXPECTED_CODES.put("destroy:iodine", "destroy:linear:II");
+        EXPECTED_CODES.put("destroy:iodomethane", "destroy:linear:CI");
+        EXPECTED_CODES.put("destroy:iron_ii", "destroy:linear:Fe");
+        EXPECTED_CODES.put("destroy:iron_iii", "destroy:linear:Fe");
+        EXPECTED_CODES.put("destroy:mercury", "destroy:linear:Hg");
+        EXPECTED_CODES.put("destroy:metaxylene", "destroy:benzene:C,,C,,,");
+        EXPECTED_CODES.put("destroy:methane", "destroy:linear:C");
+        EXPECTED_CODES.put("destroy:methanol", "destroy:linear:CO");
+        EXPECTED_CODES.put("destroy:methyl_acetate", "destroy:linear:COC=(C)O");
+        EXPECTED_CODES.put("destroy:methyl_salicylate", "destroy:benzene:C(=O)OC,O,,,,");
+        EXPECTED_CODES.put("destroy:methylamine", "destroy:linear:CN");
+        EXPECTED_CODES.put("destroy:nickel_ion", "destroy:linear:Ni");
+        EXPECTED_CODES.put("destroy:nitrate", "destroy:linear:O=N~(~O)O");
+        EXPECTED_CODES.put("destroy:nitric_acid", "destroy:linear:ON~(~O)O");
+        EXPECTED_CODES.put("destroy:nitrogen", "destroy:linear:N#N");
+        EXPECTED_CODES.put("destroy:nitrogen_dioxide", "destroy:linear:O~N~O");
+        EXPECTED_CODES.put("destroy:nitroglycerine", "destroy:linear:O~N(~O)OCC(ON~(~O)O)CON~(~O)O");
+        EXPECTED_CODES.put("destroy:nitronium", "destroy:linear:O=N=O");
+        EXPECTED_CODES.put("destroy:octasulfur", "destroy:octasulfur:");
+        EXPECTED_CODES.put("destroy:orthoxylene", "destroy:benzene:C,C,,,,");
+        EXPECTED_CODES.put("destroy:oxide", "destroy:linear:O");
+        EXPECTED_CODES.put("destroy:oxygen", "destroy:linear:O=O");
+        EXPECTED_CODES.put("destroy:paraxylene", "destroy:benzene:C,,,C,,");
+        EXPECTED_CODES.put("destroy:phenol", "destroy:benzene:O,,,,,");
+        EXPECTED_CODES.put("destroy:phenylacetic_acid", "destroy:benzene:CC(=O)O,,,,,");
+        EXPECTED_CODES.put("destroy:phenylacetone", "destroy:benzene:CC=(C)O,,,,,");
+        EXPECTED_CODES.put("destroy:phosgene", "destroy:linear:O=C(Cl)Cl");
+        EXPECTED_CODES.put("destroy:phthalic_anhydride", "destroy:isohydrobenzofuran:,,,O,O,");
+        EXPECTED_CODES.put("destroy:picric_acid", "destroy:benzene:N~(~O)O,O,N~(~O)O,C,N~(~O)O,");
+        EXPECTED_CODES.put("destroy:potassium_ion", "destroy:linear:K");
+        EXPECTED_CODES.put("destroy:propene", "destroy:linear:C=CC");
+        EXPECTED_CODES.put("destroy:proton", null);
+        EXPECTED_CODES.put("destroy:salicylic_acid", "destroy:benzene:C(=O)O,O,,,,");
+        EXPECTED_CODES.put("destroy:sodium_ion", "destroy:linear:Na");
+        EXPECTED_CODES.put("destroy:sodium_metal", "destroy:linear:Na");
+        EXPECTED_CODES.put("destroy:styrene", "destroy:benzene:C=C,,,,,");
+        EXPECTED_CODES.put("destroy:sulfate", "destroy:linear:O=S(=O)(O)O");
+        EXPECTED_CODES.put("destroy:sulfide", "destroy:linear:S");
+        EXPECTED_CODES.put("destroy:sulfur_dioxide", "destroy:linear:O=S=O");
+        EXPECTED_CODES.put("destroy:sulfuric_acid", "destroy:linear:O=S(=O)(O)O");
+        EXPECTED_CODES.put("destroy:tetrafluoroethene", "destroy:linear:FC=(F)C(F)F");
+        EXPECTED_CODES.put("destroy:tnt", "destroy:benzene:N~(~O)O,C,N~(~O)O,C,N~(~O)O,");
+        EXPECTED_CODES.put("destroy:toluene", "destroy:benzene:C,,,,,");
+        EXPECTED_CODES.put("destroy:trichlorofluoromethane", "destroy:linear:FC(Cl)(Cl)Cl");
+        EXPECTED_CODES.put("destroy:trimethylamine", "destroy:linear:CN(C)C");
+        EXPECTED_CODES.put("destroy:vinyl_acetate", "destroy:linear:C=COC=(C)O");
+        EXPECTED_CODES.put("destroy:water", "destroy:linear:O");
+        EXPECTED_CODES.put("destroy:zinc_ion", "destroy:linear:Zn");
+    };
+
+    public static void main(String ...args) {
+
+        DestroyGroupFinder.register();
+        DestroyTopologies.register();
+        DestroyMolecules.register();
+
+        List<String> failures = new ArrayList<>();
+        Set<String> checkedIDs = new HashSet<>();
+        for (Molecule molecule : Molecule.MOLECULES.values()) {
+            String id = molecule.getFullID();
+            checkedIDs.add(id);
+            if (!EXPECTED_CODES.containsKey(id)) {
+                failures.add(id + " has no FROWNS code to check against.");
+                continue;
+            };
+            String expectedCode = EXPECTED_CODES.get(id);
+            String code;
+            try {
+                code = molecule.shallowCopyStructure().serialize();
+            } catch(RuntimeException e) {
+                if (expectedCode != null) failures.add(id + ": expected '" + expectedCode + "' but serializing threw " + e);
+                continue;
+            };
+            if (!code.equals(expectedCode)) failures.add(id + ": expected " + (expectedCode == null ? "serializing to fail" : "'" + expectedCode + "'") + " but got '" + code + "'");
+        };
+        for (String id : EXPECTED_CODES.keySet()) {
+            if (!checkedIDs.contains(id)) failures.add(id + " has a FROWNS code to check but isn't registered.");
+        };
+
+        System.out.println("Checked the FROWNS codes of " + checkedIDs.size() + " Molecules.");
+        failures.forEach(System.out::println);
+        if (!failures.isEmpty()) throw new IllegalStateException(failures.size() + " Molecules were not serialized as expected.");
+    };
+};
@@ -0,0 +1,51 @@
+package com.petrolpark.destroy.test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.petrolpark.destroy.chemistry.Mixture;
+import com.petrolpark.destroy.chemistry.Mixture.Accumulator;
+import com.petrolpark.destroy.chemistry.index.DestroyGroupFinder;
+import com.petrolpark.destroy.chemistry.index.DestroyMolecules;
+import com.petrolpark.destroy.chemistry.index.DestroyTopologies;
+import com.petrolpark.destroy.config.DestroyAllConfigs;
+
+/**
+ * Checks that {@link Mixture#mixInto mixing} a little steam into a lot of cold water condenses the steam, the same as
+ * {@link Accumulator#mix building the Mixture from scratch} does, rather than leaving it as gas below its boiling point.
+ */
+public class MixingTest {
+
+    public static void main(String ...args) {
+
+        DestroyAllConfigs.createInMemory(); // Mixtures read the client config when they're named
+        DestroyGroupFinder.register();
+        DestroyTopologies.register();
+        DestroyMolecules.register();
+
+        Map<Mixture, Double> mixtures = new HashMap<>();
+        mixtures.put(coldWater(), 1d);
+        mixtures.put(steam(), 0.1d);
+        Mixture mixed = Mixture.mixInto(mixtures);
+
+        Accumulator accumulator = new Accumulator();
+        accumulator.add(coldWater(), 1d);
+        accumulator.add(steam(), 0.1d);
+        Mixture expected = accumulator.mix();
+
+        System.out.println("Mixed: " + mixed.getTemperature() + "K with " + mixed.getGasConcentration(1.1d) + " moles of gas per Bucket");
+        System.out.println("Built from scratch: " + expected.getTemperature() + "K with " + expected.getGasConcentration(1.1d) + " moles of gas per Bucket");
+
+        if (mixed.getGasConcentration(1.1d) != 0f) throw new IllegalStateException("Steam mixed into cold water stayed gaseous.");
+        if (mixed.getTemperature() <= 288f || mixed.getTemperature() >= DestroyMolecules.WATER.getBoilingPoint()) throw new IllegalStateException("Steam mixed into cold water gave water at " + mixed.getTemperature() + "K.");
+        if (Math.abs(mixed.getTemperature() - expected.getTemperature()) > 0.1f) throw new IllegalStateException("Mixing gave a different temperature to building the Mixture from scratch.");
+    };
+
+    private static Mixture coldWater() {
+        return Mixture.pure(DestroyMolecules.WATER).setTemperature(288f);
+    };
+
+    private static Mixture steam() {
+        return Mixture.pure(DestroyMolecules.WATER).setTemperature(400f);
+    };
+};
@@ -1,9 +1,20 @@
 package com.petrolpark.destroy.util;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nullable;
 
 import com.petrolpark.destroy.advancement.DestroyAdvancements;
 import com.petrolpark.destroy.capability.level.pollution.LevelPollutionProvider;
+import com.petrolpark.destroy.capability.level.pollution.PollutionRegions;
 import com.petrolpark.destroy.capability.level.pollution.LevelPollution.PollutionType;
 import com.petrolpark.destroy.chemistry.Molecule;
 import com.petrolpark.destroy.chemistry.ReadOnlyMixture;
@@ -11,18 +22,34 @@ import com.petrolpark.destroy.config.DestroyAllConfigs;
 import com.petrolpark.destroy.fluid.DestroyFluids;
 import com.petrolpark.destroy.network.DestroyMessages;
 import com.petrolpark.destroy.network.packet.EvaporatingFluidS2CPacket;
+import com.petrolpark.destroy.network.packet.EvaporatingFluidS2CPacket.Evaporation;
+import com.petrolpark.destroy.network.packet.LevelPollutionChangesS2CPacket;
+import com.petrolpark.destroy.network.packet.RegionalPollutionS2CPacket;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.phys.AABB;
 import net.minecraftforge.fluids.FluidStack;
 
 public class PollutionHelper {
 
+    /**
+     * {@link Evaporation Evaporations} which have happened this tick and are yet to be {@link PollutionHelper#sendEvaporations sent} to clients, grouped by Level and then by chunk.
+     */
+    private static final Map<ServerLevel, Map<ChunkPos, List<Evaporation>>> EVAPORATIONS = new WeakHashMap<>();
+
+    /**
+     * Types of Pollution which have changed in each Level since they were last {@link PollutionHelper#sendPollutionChanges sent} to clients.
+     */
+    private static final Map<ServerLevel, Set<PollutionType>> CHANGED_POLLUTION = new WeakHashMap<>();
+
     /**
      * Whether Pollution is enabled in this world.
      */
@@ -30,6 +57,13 @@ public class PollutionHelper {
         return DestroyAllConfigs.COMMON.pollution.enablePollution.get();
     };
 
+    /**
+     * Whether Pollution is kept in {@link PollutionRegions regions} around where it was released, rather than being the same across the whole Level.
+     */
+    public static boolean regionalPollutionEnabled() {
+        return DestroyAllConfigs.COMMON.pollution.regionalPollution.get();
+    };
+
     /**
      * Gets the level of pollution of the given Type in the given Level.
      * @param level
@@ -40,9 +74,23 @@ public class PollutionHelper {
         return level.getCapability(LevelPollutionProvider.LEVEL_POLLUTION).map(levelPollution -> levelPollution.get(pollutionType)).orElse(0);
     };
 
+    /**
+     * Gets the level of pollution of the given Type at the given position. This is only different from the {@link PollutionHelper#getPollution(Level, PollutionType) level of pollution
+     * across the whole Level} if {@link PollutionHelper#regionalPollutionEnabled regional Pollution} is enabled.
+     * @param level
+     * @param pos
+     * @param pollutionType
+     * @return 0 if the Level does not have the Level Pollution capability
+     */
+    public static int getPollution(Level level, BlockPos pos, PollutionType pollutionType) {
+        if (!regionalPollutionEnabled()) return getPollution(level, pollutionType);
+        return level.getCapability(LevelPollutionProvider.LEVEL_POLLUTION).map(levelPollution -> levelPollution.getRegions().get(PollutionRegions.getRegion(pos), pollutionType)).orElse(0);
+    };
+
     /**
      * Sets the level of pollution of the given Type in the given Level.
-     * The change is broadcast to all clients (Avoid this by using the {@link com.petrolpark.destroy.capability.level.pollution.LevelPollution#set set()} method instead).
+     * The change is broadcast to all clients in the Level the next time {@link PollutionHelper#sendPollutionChanges changes are sent} (Avoid this by using the
+     * {@link com.petrolpark.destroy.capability.level.pollution.LevelPollution#set set()} method instead).
      * @param level
      * @param pollutionType
      * @param value Will be set within the {@link com.petrolpark.destroy.capability.level.pollution.LevelPollution.PollutionType bounds}.
@@ -50,14 +98,12 @@ public class PollutionHelper {
      */
     public static int setPollution(Level level, PollutionType pollutionType, int value) {
         return level.getCapability(LevelPollutionProvider.LEVEL_POLLUTION).map(levelPollution -> {
-            //int oldValue = levelPollution.get(pollutionType);
+            int oldValue = levelPollution.get(pollutionType);
             int newValue = levelPollution.set(pollutionType, value); // Actually set the Pollution level
 
-            // This has been disabled as updating the SMOG level only updates the colours of unloaded chunks, which creates weird-looking boundaries if the change is large
-            // For now this only happens when reloading the world
-            // if (oldValue != newValue) { // If there has been a change (which needs to be broadcast to clients)
-            //     DestroyMessages.sendToAllClients(new LevelPollutionS2CPacket(levelPollution));
-            // };
+            if (oldValue != newValue && level instanceof ServerLevel serverLevel) { // If there has been a change (which needs to be broadcast to clients)
+                CHANGED_POLLUTION.computeIfAbsent(serverLevel, l -> EnumSet.noneOf(PollutionType.class)).add(pollutionType);
+            };
 
             // Award Advancements for fully polluting/repairing the world
             if (level instanceof ServerLevel serverLevel && levelPollution.hasPollutionEverBeenMaxed()) {
@@ -72,7 +118,8 @@ public class PollutionHelper {
 
     /**
      * Changes the level of pollution of the given Type in the given Level by the given amount.
-     * The change is broadcast to all clients (Avoid this by using the {@link com.petrolpark.destroy.capability.level.pollution.LevelPollution#change change()} method instead).
+     * The change is broadcast to all clients in the Level the next time {@link PollutionHelper#sendPollutionChanges changes are sent} (Avoid this by using the
+     * {@link com.petrolpark.destroy.capability.level.pollution.LevelPollution#change change()} method instead).
      * @param level
      * @param pollutionType
      * @param change Can be positive or negative; will be set within the {@link com.petrolpark.destroy.capability.level.pollution.LevelPollution.PollutionType bounds}.
@@ -82,19 +129,64 @@ public class PollutionHelper {
         return setPollution(level, pollutionType, Mth.clamp(getPollution(level, pollutionType) + change, 0, pollutionType.max));
     };
 
+    /**
+     * Sets the level of pollution of the given Type at the given position, which is the region containing that position if {@link PollutionHelper#regionalPollutionEnabled regional Pollution}
+     * is enabled or the whole Level otherwise.
+     * @param level
+     * @param pos
+     * @param pollutionType
+     * @param value Will be set within the {@link com.petrolpark.destroy.capability.level.pollution.LevelPollution.PollutionType bounds}.
+     * @return The actual value to which the level of pollution was set (0 if there was no Capability)
+     */
+    public static int setPollution(Level level, BlockPos pos, PollutionType pollutionType, int value) {
+        if (!regionalPollutionEnabled()) return setPollution(level, pollutionType, value);
+        return level.getCapability(LevelPollutionProvider.LEVEL_POLLUTION).map(levelPollution -> levelPollution.getRegions().set(PollutionRegions.getRegion(pos), pollutionType, value, level.getGameTime())).orElse(0);
+    };
+
+    /**
+     * Changes the level of pollution of the given Type at the given position by the given amount, in the region containing that position if {@link PollutionHelper#regionalPollutionEnabled
+     * regional Pollution} is enabled or across the whole Level otherwise.
+     * @param level
+     * @param pos
+     * @param pollutionType
+     * @param change Can be positive or negative; will be set within the {@link com.petrolpark.destroy.capability.level.pollution.LevelPollution.PollutionType bounds}.
+     * @return The actual value to which the level of pollution was set (0 if there was no Capability)
+     */
+    public static int changePollution(Level level, BlockPos pos, PollutionType pollutionType, int change) {
+        return setPollution(level, pos, pollutionType, getPollution(level, pos, pollutionType) + change);
+    };
+
     /**
      * Pollute a single Fluid Stack, with no Particles, and without damaging nearby Entities.
      * @param level
      * @param fluidStack
+     * @see PollutionHelper#pollute(Level, FluidStack, BlockPos) Polluting the region around a position
      * @see PollutionHelper#pollute(Level, BlockPos, int, FluidStack...) Harming Entities and showing evaporation particles too
      */
     public static void pollute(Level level, FluidStack fluidStack) {
+        pollute(level, fluidStack, null);
+    };
+
+    /**
+     * Pollute a single Fluid Stack, with no Particles, and without damaging nearby Entities.
+     * @param level
+     * @param fluidStack
+     * @param blockPos Where the Fluid is released, if {@link PollutionHelper#regionalPollutionEnabled regional Pollution} is enabled. If this is {@code null} the whole Level is polluted.
+     * @see PollutionHelper#pollute(Level, BlockPos, int, FluidStack...) Harming Entities and showing evaporation particles too
+     */
+    public static void pollute(Level level, FluidStack fluidStack, @Nullable BlockPos blockPos) {
         if (DestroyFluids.isMixture(fluidStack) && fluidStack.getOrCreateTag().contains("Mixture", Tag.TAG_COMPOUND)) {
-            ReadOnlyMixture mixture = ReadOnlyMixture.readNBT(fluidStack.getOrCreateTag().getCompound("Mixture"));
+            ReadOnlyMixture mixture = ReadOnlyMixture.readSnapshot(fluidStack.getOrCreateTag().getCompound("Mixture"));
             for (Molecule molecule : mixture.getContents(true)) {
                 float pollutionAmount = mixture.getConcentrationOf(molecule) * fluidStack.getAmount() / 1000; // One mole of polluting Molecule = one point of Pollution
                 for (PollutionType pollutionType : PollutionType.values()) {
-                    if (molecule.hasTag(pollutionType.moleculeTag) && level.random.nextFloat() <= pollutionAmount) changePollution(level, pollutionType, (int)pollutionAmount);
+                    if (molecule.hasTag(pollutionType.moleculeTag) && level.random.nextFloat() <= pollutionAmount) {
+                        if (blockPos == null) {
+                            changePollution(level, pollutionType, (int)pollutionAmount);
+                        } else {
+                            changePollution(level, blockPos, pollutionType, (int)pollutionAmount);
+                        };
+                    };
                 };
             };
         };
@@ -111,8 +203,8 @@ public class PollutionHelper {
         if (level.isClientSide()) return;
         List<LivingEntity> nearbyEntities = level.getEntities(null, new AABB(blockPos).inflate(2)).stream().filter(e -> e instanceof LivingEntity).map(e -> (LivingEntity)e).toList();
         for (FluidStack fluidStack : List.of(fluidStacks)) {
-            pollute(level, fluidStack);
-            if (particleWeight == 1 || level.getRandom().nextInt(particleWeight) == 0); DestroyMessages.sendToAllClients(new EvaporatingFluidS2CPacket(blockPos, fluidStack));
+            pollute(level, fluidStack, blockPos);
+            if (particleWeight == 1 || level.getRandom().nextInt(particleWeight) == 0) evaporate(level, blockPos, fluidStack);
             for (LivingEntity entity : nearbyEntities) {
                 ChemistryDamageHelper.damage(level, entity, fluidStack, true);
             };
@@ -128,4 +220,66 @@ public class PollutionHelper {
     public static void pollute(Level level, BlockPos blockPos, FluidStack ...fluidStacks) {
         pollute(level, blockPos, 1, fluidStacks);
     };
+
+    /**
+     * Show evaporation Particles to the players near the given position. These are sent at the {@link PollutionHelper#sendEvaporations end of the tick},
+     * along with any others in the same chunk.
+     * @param level
+     * @param blockPos The position from which the evaporation Particles should originate
+     * @param fluidStack The Fluid which is evaporating
+     */
+    public static void evaporate(Level level, BlockPos blockPos, FluidStack fluidStack) {
+        if (!(level instanceof ServerLevel serverLevel) || fluidStack.isEmpty()) return;
+        EVAPORATIONS.computeIfAbsent(serverLevel, l -> new HashMap<>()).computeIfAbsent(new ChunkPos(blockPos), c -> new ArrayList<>()).add(Evaporation.of(blockPos, fluidStack));
+    };
+
+    /**
+     * Send all the {@link PollutionHelper#evaporate evaporations} which happened in this Level this tick, in one packet per chunk to only the players who can see that chunk.
+     * @param level
+     */
+    public static void sendEvaporations(ServerLevel level) {
+        Map<ChunkPos, List<Evaporation>> evaporations = EVAPORATIONS.remove(level);
+        if (evaporations == null) return;
+        for (Entry<ChunkPos, List<Evaporation>> chunkAndEvaporations : evaporations.entrySet()) {
+            LevelChunk chunk = level.getChunkSource().getChunkNow(chunkAndEvaporations.getKey().x, chunkAndEvaporations.getKey().z);
+            if (chunk != null) DestroyMessages.sendToClientsTrackingChunk(new EvaporatingFluidS2CPacket(chunkAndEvaporations.getValue()), chunk);
+        };
+    };
+
+    /**
+     * Let Pollution spread out between and die away in the {@link PollutionRegions regions} of this Level, and every so often send the Players in it
+     * whatever has changed in the regions near them. This does nothing unless {@link PollutionHelper#regionalPollutionEnabled regional Pollution} is enabled.
+     * @param level
+     */
+    public static void tickRegions(ServerLevel level) {
+        if (!regionalPollutionEnabled()) return;
+        level.getCapability(LevelPollutionProvider.LEVEL_POLLUTION).ifPresent(levelPollution -> {
+            PollutionRegions regions = levelPollution.getRegions();
+            regions.diffuse(level.getGameTime(), DestroyAllConfigs.COMMON.pollution.regionsDiffusedPerTick.get(), DestroyAllConfigs.COMMON.pollution.diffusionPercentage.get() / 100f);
+            if (level.getGameTime() % DestroyAllConfigs.COMMON.pollution.pollutionSyncInterval.get() != 0) return;
+
+            regions.forgetPlayersExcept(level.players().stream().map(ServerPlayer::getUUID).toList());
+            int radius = DestroyAllConfigs.COMMON.pollution.regionSyncRadius.get();
+            for (ServerPlayer player : level.players()) {
+                boolean reset = !regions.hasBeenSentTo(player.getUUID());
+                Map<Long, int[]> changes = regions.getChangesToSend(player.getUUID(), PollutionRegions.getRegion(player.blockPosition()), radius);
+                if (reset || !changes.isEmpty()) DestroyMessages.sendToClient(new RegionalPollutionS2CPacket(reset, changes), player);
+            };
+        });
+    };
+
+    /**
+     * Send all the types of Pollution which have {@link PollutionHelper#setPollution changed} in this Level since they were last sent to the Players in it, in one packet.
+     * This only does anything every {@link com.petrolpark.destroy.config.DestroyPollutionConfigs#pollutionSyncInterval few ticks}, so however often Pollution changes,
+     * the Players only get sent so much.
+     * @param level
+     */
+    public static void sendPollutionChanges(ServerLevel level) {
+        if (level.getGameTime() % DestroyAllConfigs.COMMON.pollution.pollutionSyncInterval.get() != 0) return;
+        Set<PollutionType> changedTypes = CHANGED_POLLUTION.remove(level);
+        if (changedTypes == null) return;
+        Map<PollutionType, Integer> changes = new EnumMap<>(PollutionType.class);
+        for (PollutionType pollutionType : changedTypes) changes.put(pollutionType, getPollution(level, pollutionType));
+        DestroyMessages.sendToClientsInLevel(new LevelPollutionChangesS2CPacket(changes), level);
+    };
 };
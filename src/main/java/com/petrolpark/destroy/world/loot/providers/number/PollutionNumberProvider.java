@@ -6,10 +6,13 @@ import com.google.gson.JsonSerializationContext;
 import com.petrolpark.destroy.capability.level.pollution.LevelPollution.PollutionType;
 import com.petrolpark.destroy.util.PollutionHelper;
 
+import net.minecraft.core.BlockPos;
 import net.minecraft.util.GsonHelper;
 import net.minecraft.world.level.storage.loot.LootContext;
+import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
 import net.minecraft.world.level.storage.loot.providers.number.LootNumberProviderType;
 import net.minecraft.world.level.storage.loot.providers.number.NumberProvider;
+import net.minecraft.world.phys.Vec3;
 
 public class PollutionNumberProvider implements NumberProvider {
 
@@ -41,7 +44,9 @@ public class PollutionNumberProvider implements NumberProvider {
      */
     @Override
     public float getFloat(LootContext lootContext) {
-        float rawProportion = (float)PollutionHelper.getPollution(lootContext.getLevel(), pollutionType) / (float)pollutionType.max;
+        Vec3 origin = lootContext.getParamOrNull(LootContextParams.ORIGIN);
+        int pollution = origin == null ? PollutionHelper.getPollution(lootContext.getLevel(), pollutionType) : PollutionHelper.getPollution(lootContext.getLevel(), BlockPos.containing(origin), pollutionType);
+        float rawProportion = (float)pollution / (float)pollutionType.max;
         if (invert) rawProportion = 1f - rawProportion;
         return rawProportion * scale;
     };